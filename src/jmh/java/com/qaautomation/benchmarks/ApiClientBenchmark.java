@@ -0,0 +1,75 @@
+package com.qaautomation.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.qaautomation.api.mock.MockEmployeeApiServer;
+import com.qaautomation.api.payloads.CreateEmployeePayload;
+import com.qaautomation.utils.ApiClient;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.RateLimiter;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks ApiClient requests against the in-process mock Employee API, so the result is
+ * dominated by request building, REST-Assured and connection handling rather than the network.
+ * The client-side rate limit is disabled and framework logging is limited to warnings.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiClientBenchmark {
+
+    private MockEmployeeApiServer server;
+    private ApiClient apiClient;
+    private final CreateEmployeePayload payload = new CreateEmployeePayload("Test User", "1001", "99");
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.qaautomation")).setLevel(Level.WARN);
+        ConfigReader config = ConfigReader.getInstance();
+        server = new MockEmployeeApiServer(config);
+        server.start(0, 4);
+        apiClient = new ApiClient(server.getBaseUrl(), config, new RateLimiter("localhost", 0, 1, 0, 0, 0));
+    }
+
+    @TearDown
+    public void tearDown() {
+        apiClient.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public Response get() {
+        return apiClient.get("/api/v1/employee/1");
+    }
+
+    @Benchmark
+    public Response post() {
+        return apiClient.post("/api/v1/create", payload);
+    }
+
+    @Benchmark
+    public Response postAsync() {
+        return apiClient.postAsync("/api/v1/create", payload).join();
+    }
+}
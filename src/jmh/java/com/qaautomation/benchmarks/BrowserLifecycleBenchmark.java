@@ -0,0 +1,85 @@
+package com.qaautomation.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.qaautomation.utils.BrowserFactory;
+import com.qaautomation.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the per-test cost of launching a browser for every test with opening a new
+ * context on a shared browser, as BaseTest does. Each operation opens a page with local
+ * content and closes everything it created.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class BrowserLifecycleBenchmark {
+
+    private static final String CONTENT = "<form><input id='name'><button>Submit</button></form>";
+
+    private final BrowserFactory browserFactory = new BrowserFactory();
+    private final String browserType = ConfigReader.getInstance().getBrowserType();
+    private Playwright playwright;
+    private Browser sharedBrowser;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger("com.qaautomation")).setLevel(Level.WARN);
+        playwright = Playwright.create();
+        sharedBrowser = browserFactory.createBrowser(playwright, browserType);
+    }
+
+    @TearDown
+    public void tearDown() {
+        playwright.close();
+    }
+
+    @Benchmark
+    public void browserPerTest() {
+        Browser browser = browserFactory.createBrowser(playwright, browserType);
+        try {
+            openPage(browser);
+        } finally {
+            browser.close();
+        }
+    }
+
+    @Benchmark
+    public void contextPerTest() {
+        openPage(sharedBrowser);
+    }
+
+    private void openPage(Browser browser) {
+        BrowserContext context = browserFactory.createBrowserContext(browser);
+        try {
+            Page page = context.newPage();
+            page.setContent(CONTENT);
+        } finally {
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.qaautomation.benchmarks;
+
+import com.qaautomation.utils.ConfigReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks obtaining the configuration and reading values from it.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigReaderBenchmark {
+
+    @Benchmark
+    public ConfigReader getInstance() {
+        return ConfigReader.getInstance();
+    }
+
+    @Benchmark
+    public String getProperty() {
+        return ConfigReader.getInstance().getProperty("app.base.url", null);
+    }
+
+    @Benchmark
+    public int getTypedValue() {
+        return ConfigReader.getInstance().getWaitTimeout();
+    }
+
+    @Benchmark
+    public int getScopedWaitTimeout() {
+        return ConfigReader.getInstance().getWaitTimeout("submit", "emailError");
+    }
+}
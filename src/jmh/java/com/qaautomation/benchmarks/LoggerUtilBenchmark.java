@@ -0,0 +1,76 @@
+package com.qaautomation.benchmarks;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.qaautomation.utils.LoggerUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks LoggerUtil calls with the level disabled and enabled.
+ * The benchmark logger has no appenders, so enabled logging measures the framework
+ * and Logback overhead without console or file I/O.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoggerUtilBenchmark {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(LoggerUtilBenchmark.class);
+
+    @Param({"INFO", "DEBUG"})
+    private String level;
+
+    private final String endpoint = "/api/v1/employee/";
+    private final long id = 42;
+
+    @Setup
+    public void setUp() {
+        Logger logbackLogger = (Logger) LoggerFactory.getLogger(LoggerUtilBenchmark.class);
+        logbackLogger.setAdditive(false);
+        logbackLogger.setLevel(Level.toLevel(level));
+    }
+
+    @Benchmark
+    public LoggerUtil getLogger() {
+        return LoggerUtil.getLogger(LoggerUtilBenchmark.class);
+    }
+
+    @Benchmark
+    public void debugConcatenated() {
+        logger.debug("Performing GET request to: " + endpoint + id);
+    }
+
+    @Benchmark
+    public void debugPlaceholder() {
+        logger.debug("Performing GET request to: {}{}", endpoint, id);
+    }
+
+    @Benchmark
+    public void debugSupplier() {
+        logger.debug(() -> "Performing GET request to: " + endpoint + id);
+    }
+
+    @Benchmark
+    public void infoPlaceholder() {
+        logger.info("Performing GET request to: {}{}", endpoint, id);
+    }
+}
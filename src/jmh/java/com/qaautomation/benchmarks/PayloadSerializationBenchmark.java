@@ -0,0 +1,52 @@
+package com.qaautomation.benchmarks;
+
+import com.google.gson.Gson;
+import com.qaautomation.api.payloads.CreateEmployeePayload;
+import com.qaautomation.api.responses.EmployeeResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks serialization of the Employee request payload and parsing of the response.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadSerializationBenchmark {
+
+    private final Gson gson = new Gson();
+    private final CreateEmployeePayload payload = new CreateEmployeePayload("Test User", "1001", "99");
+    private final String responseBody = "{\"status\":\"success\",\"data\":{\"name\":\"Test User\","
+            + "\"salary\":\"1001\",\"age\":\"99\",\"id\":25},\"message\":\"Successfully! Record has been added.\"}";
+
+    @Benchmark
+    public String toJson() {
+        return gson.toJson(payload);
+    }
+
+    @Benchmark
+    public String adapterToJson() {
+        return payload.toJson();
+    }
+
+    @Benchmark
+    public EmployeeResponse parseResponse() {
+        return EmployeeResponse.parse(new StringReader(responseBody));
+    }
+}
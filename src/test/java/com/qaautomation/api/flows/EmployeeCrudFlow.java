@@ -0,0 +1,128 @@
+package com.qaautomation.api.flows;
+
+import com.qaautomation.api.payloads.CreateEmployeePayload;
+import com.qaautomation.api.responses.EmployeeResponse;
+import com.qaautomation.utils.ApiClient;
+import io.restassured.response.Response;
+
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Create, get, update and delete flow of the Employee API.
+ * The functional tests call the steps one by one; the load scenario runs the whole flow
+ * through {@link #run}, so both exercise the same requests.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class EmployeeCrudFlow {
+
+    public static final String CREATE = "create";
+    public static final String GET = "get";
+    public static final String UPDATE = "update";
+    public static final String DELETE = "delete";
+
+    private final ApiClient apiClient;
+
+    /**
+     * Constructor
+     * @param apiClient Client of the Employee API
+     */
+    public EmployeeCrudFlow(ApiClient apiClient) {
+        this.apiClient = apiClient;
+    }
+
+    /**
+     * Create an employee
+     * @param payload Employee data
+     * @return Response object
+     */
+    public Response create(CreateEmployeePayload payload) {
+        return apiClient.post("/api/v1/create", payload);
+    }
+
+    /**
+     * Get an employee
+     * @param id Employee ID
+     * @return Response object
+     */
+    public Response get(String id) {
+        return apiClient.get("/api/v1/employee/" + id);
+    }
+
+    /**
+     * Update an employee
+     * @param id Employee ID
+     * @param payload New employee data
+     * @return Response object
+     */
+    public Response update(String id, CreateEmployeePayload payload) {
+        return apiClient.put("/api/v1/update/" + id, payload);
+    }
+
+    /**
+     * Delete an employee
+     * @param id Employee ID
+     * @return Response object
+     */
+    public Response delete(String id) {
+        return apiClient.delete("/api/v1/delete/" + id);
+    }
+
+    /**
+     * Run the whole flow, stopping at the first step that does not answer 200 or whose request fails
+     * @param created Data of the created employee
+     * @param updated Data the employee is updated to
+     * @param listener Listener told about every step, failed requests included
+     * @return true if all steps succeeded
+     */
+    public boolean run(CreateEmployeePayload created, CreateEmployeePayload updated, StepListener listener) {
+        String[] id = new String[1];
+        return step(listener, CREATE, () -> create(created), response -> (id[0] = idOf(response)) != null)
+                && step(listener, GET, () -> get(id[0]), response -> true)
+                && step(listener, UPDATE, () -> update(id[0], updated), response -> true)
+                && step(listener, DELETE, () -> delete(id[0]), response -> true);
+    }
+
+    private static boolean step(StepListener listener, String step, Supplier<Response> request,
+                                Predicate<Response> valid) {
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = request.get();
+        } catch (Exception e) {
+            // Connection refused, timeouts (REST-Assured rethrows them unchecked): the step failed without a response
+            listener.onStep(step, start, null, false);
+            return false;
+        }
+        boolean success = response.getStatusCode() == 200 && valid.test(response);
+        listener.onStep(step, start, response, success);
+        return success;
+    }
+
+    private static String idOf(Response response) {
+        try {
+            EmployeeResponse.Employee employee = EmployeeResponse.from(response).getData();
+            return employee == null ? null : employee.getId();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Listener of the steps of a flow run
+     */
+    @FunctionalInterface
+    public interface StepListener {
+
+        /**
+         * Called when a step has completed
+         * @param step Step name
+         * @param startNanos Start time of the step from System.nanoTime()
+         * @param response Response of the step, null if the request failed without a response
+         * @param success Whether the step succeeded
+         */
+        void onStep(String step, long startNanos, Response response, boolean success);
+    }
+}
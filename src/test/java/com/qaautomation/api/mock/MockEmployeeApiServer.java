@@ -0,0 +1,374 @@
+package com.qaautomation.api.mock;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Employee REST API (dummy.restapiexample.com).
+ * Implements create, get, update and delete on an in-memory store, with configurable
+ * per-route latency, 429 injection and error rate. Latency is applied without blocking
+ * a server thread, so the server is never the bottleneck of a load run.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class MockEmployeeApiServer {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(MockEmployeeApiServer.class);
+
+    private static final String CREATE_PATH = "/api/v1/create";
+    private static final String EMPLOYEE_PATH = "/api/v1/employee/";
+    private static final String UPDATE_PATH = "/api/v1/update/";
+    private static final String DELETE_PATH = "/api/v1/delete/";
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every keep-alive
+        // response waits for the client's delayed ACK (about 40 ms). Read once when the server class loads.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Map<Long, Employee> employees = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final int retryAfterSeconds;
+
+    private HttpServer server;
+    private ExecutorService serverExecutor;
+    private ScheduledExecutorService delayExecutor;
+
+    /**
+     * Constructor - reads latency and fault injection settings from configuration
+     * @param config Configuration reader
+     */
+    public MockEmployeeApiServer(ConfigReader config) {
+        for (String route : new String[]{"create", "employee", "update", "delete"}) {
+            routes.put(route, new Route(
+                    Long.parseLong(config.getProperty("mock.api.latency." + route + ".ms",
+                            config.getProperty("mock.api.latency.ms", "0"))),
+                    Double.parseDouble(config.getProperty("mock.api.rate429." + route + ".percent",
+                            config.getProperty("mock.api.rate429.percent", "0"))),
+                    Double.parseDouble(config.getProperty("mock.api.error." + route + ".percent",
+                            config.getProperty("mock.api.error.percent", "0")))));
+        }
+        this.retryAfterSeconds = Integer.parseInt(config.getProperty("mock.api.retry.after.seconds", "1"));
+    }
+
+    /**
+     * Start the server
+     * @param port Port to listen on, 0 for any free port
+     * @param threads Number of request handling threads
+     */
+    public void start(int port, int threads) {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 1024);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to start mock Employee API on port " + port, e);
+        }
+        AtomicInteger threadNumber = new AtomicInteger();
+        serverExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mock-api-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        delayExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mock-api-delay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(serverExecutor);
+        server.createContext("/", this::handle);
+        server.start();
+        logger.info("Mock Employee API started at: {}", getBaseUrl());
+    }
+
+    /**
+     * Stop the server
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            serverExecutor.shutdownNow();
+            delayExecutor.shutdownNow();
+            logger.info("Mock Employee API stopped, {} employees left in store", employees.size());
+            server = null;
+        }
+    }
+
+    /**
+     * Get base URL of the running server
+     * @return Base URL
+     */
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Dispatch a request to its route, then answer directly or after the configured latency
+     */
+    private void handle(HttpExchange exchange) {
+        MockResponse response;
+        Route route = null;
+        try {
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(method) && CREATE_PATH.equals(path)) {
+                route = routes.get("create");
+                response = route.injectFault(retryAfterSeconds);
+                if (response == null) {
+                    response = create(readBody(exchange));
+                }
+            } else if ("GET".equals(method) && path.startsWith(EMPLOYEE_PATH)) {
+                route = routes.get("employee");
+                response = route.injectFault(retryAfterSeconds);
+                if (response == null) {
+                    response = get(parseId(path, EMPLOYEE_PATH));
+                }
+            } else if ("PUT".equals(method) && path.startsWith(UPDATE_PATH)) {
+                route = routes.get("update");
+                response = route.injectFault(retryAfterSeconds);
+                if (response == null) {
+                    response = update(parseId(path, UPDATE_PATH), readBody(exchange));
+                }
+            } else if ("DELETE".equals(method) && path.startsWith(DELETE_PATH)) {
+                route = routes.get("delete");
+                response = route.injectFault(retryAfterSeconds);
+                if (response == null) {
+                    response = delete(parseId(path, DELETE_PATH));
+                }
+            } else {
+                response = notFound("Not Found");
+            }
+        } catch (RuntimeException e) {
+            response = new MockResponse(400, error("Bad request: " + e.getMessage()));
+        }
+
+        MockResponse result = response;
+        if (route != null && route.latencyMillis > 0) {
+            delayExecutor.schedule(() -> send(exchange, result), route.latencyMillis, TimeUnit.MILLISECONDS);
+        } else {
+            send(exchange, result);
+        }
+    }
+
+    private MockResponse create(JsonObject body) {
+        long id = nextId.getAndIncrement();
+        Employee employee = new Employee(id, string(body, "name"), string(body, "salary"), string(body, "age"));
+        employees.put(id, employee);
+        StringBuilder json = new StringBuilder(160);
+        json.append("{\"status\":\"success\",\"data\":{");
+        appendField(json, "name", employee.name).append(',');
+        appendField(json, "salary", employee.salary).append(',');
+        appendField(json, "age", employee.age).append(",\"id\":").append(id);
+        json.append("},\"message\":\"Successfully! Record has been added.\"}");
+        return new MockResponse(200, json.toString());
+    }
+
+    private MockResponse get(long id) {
+        Employee employee = employees.get(id);
+        if (employee == null) {
+            return notFound("Record not found");
+        }
+        StringBuilder json = new StringBuilder(200);
+        json.append("{\"status\":\"success\",\"data\":{\"id\":").append(id).append(',');
+        appendField(json, "employee_name", employee.name).append(',');
+        appendField(json, "employee_salary", employee.salary).append(',');
+        appendField(json, "employee_age", employee.age).append(',');
+        appendField(json, "profile_image", "");
+        json.append("},\"message\":\"Successfully! Record has been fetched.\"}");
+        return new MockResponse(200, json.toString());
+    }
+
+    private MockResponse update(long id, JsonObject body) {
+        Employee updated = new Employee(id, string(body, "name"), string(body, "salary"), string(body, "age"));
+        if (employees.replace(id, updated) == null) {
+            return notFound("Record not found");
+        }
+        StringBuilder json = new StringBuilder(160);
+        json.append("{\"status\":\"success\",\"data\":{");
+        appendField(json, "name", updated.name).append(',');
+        appendField(json, "salary", updated.salary).append(',');
+        appendField(json, "age", updated.age);
+        json.append("},\"message\":\"Successfully! Record has been updated.\"}");
+        return new MockResponse(200, json.toString());
+    }
+
+    private MockResponse delete(long id) {
+        if (employees.remove(id) == null) {
+            return notFound("Record not found");
+        }
+        return new MockResponse(200, "{\"status\":\"success\",\"data\":\"" + id
+                + "\",\"message\":\"Successfully! Record has been deleted\"}");
+    }
+
+    private static MockResponse notFound(String message) {
+        return new MockResponse(404, error(message));
+    }
+
+    private static String error(String message) {
+        StringBuilder json = new StringBuilder(64);
+        json.append("{\"status\":\"error\",");
+        appendField(json, "message", message);
+        return json.append('}').toString();
+    }
+
+    private static void send(HttpExchange exchange, MockResponse response) {
+        byte[] body = response.body.getBytes(StandardCharsets.UTF_8);
+        try (OutputStream output = exchange.getResponseBody()) {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            if (response.retryAfterSeconds > 0) {
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(response.retryAfterSeconds));
+            }
+            exchange.sendResponseHeaders(response.status, body.length);
+            output.write(body);
+        } catch (IOException e) {
+            logger.debug("Could not send mock response: {}", e.getMessage());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static JsonObject readBody(HttpExchange exchange) {
+        try (InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            JsonElement body = JsonParser.parseReader(reader);
+            return body.isJsonObject() ? body.getAsJsonObject() : new JsonObject();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("unreadable body", e);
+        }
+    }
+
+    private static long parseId(String path, String prefix) {
+        try {
+            return Long.parseLong(path.substring(prefix.length()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid id in " + path);
+        }
+    }
+
+    private static String string(JsonObject body, String name) {
+        JsonElement value = body.get(name);
+        return value == null || value.isJsonNull() ? null : value.getAsString();
+    }
+
+    private static StringBuilder appendField(StringBuilder json, String name, String value) {
+        json.append('"').append(name).append("\":");
+        if (value == null) {
+            return json.append("null");
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    json.append("\\\"");
+                    break;
+                case '\\':
+                    json.append("\\\\");
+                    break;
+                case '\n':
+                    json.append("\\n");
+                    break;
+                case '\r':
+                    json.append("\\r");
+                    break;
+                case '\t':
+                    json.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        return json.append('"');
+    }
+
+    /**
+     * Latency and fault injection settings of one route
+     */
+    private static class Route {
+        private final long latencyMillis;
+        private final double rate429Percent;
+        private final double errorPercent;
+
+        Route(long latencyMillis, double rate429Percent, double errorPercent) {
+            this.latencyMillis = latencyMillis;
+            this.rate429Percent = rate429Percent;
+            this.errorPercent = errorPercent;
+        }
+
+        /**
+         * Roll for an injected fault
+         * @return Fault response, or null to serve the request normally
+         */
+        MockResponse injectFault(int retryAfterSeconds) {
+            if (rate429Percent <= 0 && errorPercent <= 0) {
+                return null;
+            }
+            double roll = ThreadLocalRandom.current().nextDouble(100);
+            if (roll < rate429Percent) {
+                MockResponse response = new MockResponse(429, error("Too Many Requests"));
+                response.retryAfterSeconds = retryAfterSeconds;
+                return response;
+            }
+            if (roll < rate429Percent + errorPercent) {
+                return new MockResponse(500, error("Injected server error"));
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Employee record of the in-memory store
+     */
+    private static class Employee {
+        private final long id;
+        private final String name;
+        private final String salary;
+        private final String age;
+
+        Employee(long id, String name, String salary, String age) {
+            this.id = id;
+            this.name = name;
+            this.salary = salary;
+            this.age = age;
+        }
+    }
+
+    /**
+     * Status and JSON body of a mock response
+     */
+    private static class MockResponse {
+        private final int status;
+        private final String body;
+        private int retryAfterSeconds;
+
+        MockResponse(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -1,14 +1,28 @@
 package com.qaautomation.api.payloads;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+
 /**
  * Request payload for Employee API operations
- * Represents user data structure for API requests
+ * Represents user data structure for API requests.
+ * Serialized by the streaming {@link Adapter}, also when handed to Gson, without reflection.
  * 
  * @author Petra Széles
  * @version 1.0
  */
+@JsonAdapter(CreateEmployeePayload.Adapter.class)
 public class CreateEmployeePayload {
     
+    private static final Adapter ADAPTER = new Adapter();
+    
     private String name;
     private String salary;
     private String age;
@@ -54,12 +68,80 @@ public class CreateEmployeePayload {
     }
 
 
+    /**
+     * Serialize the payload to JSON
+     * @return JSON request body
+     */
+    public String toJson() {
+        StringWriter json = new StringWriter(64);
+        try {
+            ADAPTER.write(new JsonWriter(json), this);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize employee payload", e);
+        }
+        return json.toString();
+    }
+
     @Override
     public String toString() {
-        return "{" +
-                "\"name\":\"" + name + '\"' +
-                ",\"salary\":\"" + salary + '\"' +
-                ",\"age\":\"" + age + '\"' +
-                "}";
+        return toJson();
+    }
+    
+    /**
+     * Streaming JSON adapter of the payload; null fields are omitted
+     */
+    public static final class Adapter extends TypeAdapter<CreateEmployeePayload> {
+        
+        @Override
+        public void write(JsonWriter out, CreateEmployeePayload payload) throws IOException {
+            if (payload == null) {
+                out.nullValue();
+                return;
+            }
+            // Skipped explicitly: a JsonWriter of its own, as in toJson(), would write nulls
+            out.beginObject();
+            if (payload.name != null) {
+                out.name("name").value(payload.name);
+            }
+            if (payload.salary != null) {
+                out.name("salary").value(payload.salary);
+            }
+            if (payload.age != null) {
+                out.name("age").value(payload.age);
+            }
+            out.endObject();
+        }
+        
+        @Override
+        public CreateEmployeePayload read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            CreateEmployeePayload payload = new CreateEmployeePayload();
+            in.beginObject();
+            while (in.hasNext()) {
+                String field = in.nextName();
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    continue;
+                }
+                switch (field) {
+                    case "name":
+                        payload.name = in.nextString();
+                        break;
+                    case "salary":
+                        payload.salary = in.nextString();
+                        break;
+                    case "age":
+                        payload.age = in.nextString();
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return payload;
+        }
     }
 }
@@ -0,0 +1,235 @@
+package com.qaautomation.api.responses;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Immutable typed view of an Employee API response body.
+ * The body is parsed once, straight from the response stream, and assertions read the fields.
+ * Create and update responses name the fields name/salary/age, get responses
+ * employee_name/employee_salary/employee_age; both map to the same getters.
+ * Scalar values are kept as text, whether the API sends them as strings or numbers.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public final class EmployeeResponse {
+
+    private final String status;
+    private final String message;
+    private final Employee data;
+
+    private EmployeeResponse(String status, String message, Employee data) {
+        this.status = status;
+        this.message = message;
+        this.data = data;
+    }
+
+    /**
+     * Parse the body of an API response
+     * @param response REST-Assured response
+     * @return Parsed response
+     */
+    public static EmployeeResponse from(Response response) {
+        try (Reader reader = new InputStreamReader(response.asInputStream(), StandardCharsets.UTF_8)) {
+            return parse(reader);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read employee response", e);
+        }
+    }
+
+    /**
+     * Parse an Employee API response body
+     * @param reader Body reader
+     * @return Parsed response
+     */
+    public static EmployeeResponse parse(Reader reader) {
+        try {
+            return BodyReader.read(new JsonReader(reader));
+        } catch (IOException | IllegalStateException e) {
+            throw new RuntimeException("Response body is not an employee response", e);
+        }
+    }
+
+    /**
+     * Get response status
+     * @return Status, e.g. success or error
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    /**
+     * Get response message
+     * @return Message
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Get the employee in the response
+     * @return Employee, or null if the response has no employee object
+     */
+    public Employee getData() {
+        return data;
+    }
+
+    /**
+     * Check if the API reported success
+     * @return true if status is success
+     */
+    public boolean isSuccess() {
+        return "success".equals(status);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeResponse{status=" + status + ", message=" + message + ", data=" + data + "}";
+    }
+
+    /**
+     * Immutable employee record of a response
+     */
+    public static final class Employee {
+        private final String id;
+        private final String name;
+        private final String salary;
+        private final String age;
+
+        private Employee(String id, String name, String salary, String age) {
+            this.id = id;
+            this.name = name;
+            this.salary = salary;
+            this.age = age;
+        }
+
+        /**
+         * Get employee ID
+         * @return ID, or null if the response has none
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * Get employee name
+         * @return Name, or null if the response has none
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get employee salary
+         * @return Salary, or null if the response has none
+         */
+        public String getSalary() {
+            return salary;
+        }
+
+        /**
+         * Get employee age
+         * @return Age, or null if the response has none
+         */
+        public String getAge() {
+            return age;
+        }
+
+        @Override
+        public String toString() {
+            return "Employee{id=" + id + ", name=" + name + ", salary=" + salary + ", age=" + age + "}";
+        }
+    }
+
+    /**
+     * Streaming reader of the response body
+     */
+    private static final class BodyReader {
+
+        private BodyReader() {
+        }
+
+        private static EmployeeResponse read(JsonReader in) throws IOException {
+            String status = null;
+            String message = null;
+            Employee data = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "status":
+                        status = readScalar(in);
+                        break;
+                    case "message":
+                        message = readScalar(in);
+                        break;
+                    case "data":
+                        data = in.peek() == JsonToken.BEGIN_OBJECT ? readEmployee(in) : skip(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new EmployeeResponse(status, message, data);
+        }
+
+        private static Employee readEmployee(JsonReader in) throws IOException {
+            String id = null;
+            String name = null;
+            String salary = null;
+            String age = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id":
+                        id = readScalar(in);
+                        break;
+                    case "name":
+                    case "employee_name":
+                        name = readScalar(in);
+                        break;
+                    case "salary":
+                    case "employee_salary":
+                        salary = readScalar(in);
+                        break;
+                    case "age":
+                    case "employee_age":
+                        age = readScalar(in);
+                        break;
+                    default:
+                        in.skipValue();
+                }
+            }
+            in.endObject();
+            return new Employee(id, name, salary, age);
+        }
+
+        private static String readScalar(JsonReader in) throws IOException {
+            switch (in.peek()) {
+                case NULL:
+                    in.nextNull();
+                    return null;
+                case BOOLEAN:
+                    return String.valueOf(in.nextBoolean());
+                case STRING:
+                case NUMBER:
+                    return in.nextString();
+                default:
+                    in.skipValue();
+                    return null;
+            }
+        }
+
+        private static Employee skip(JsonReader in) throws IOException {
+            in.skipValue();
+            return null;
+        }
+    }
+}
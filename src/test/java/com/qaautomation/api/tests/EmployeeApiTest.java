@@ -1,16 +1,19 @@
 package com.qaautomation.api.tests;
 
+import com.qaautomation.api.flows.EmployeeCrudFlow;
 import com.qaautomation.api.payloads.CreateEmployeePayload;
+import com.qaautomation.api.responses.EmployeeResponse;
+import com.qaautomation.data.TestDataProviders;
 import com.qaautomation.utils.ApiClient;
 import com.qaautomation.utils.ConfigReader;
 import com.qaautomation.utils.LoggerUtil;
 import io.restassured.response.Response;
+import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeTest;
 import org.testng.annotations.Test;
 
-import static org.apache.http.conn.params.ConnManagerParams.setTimeout;
 import static org.testng.Assert.*;
 
 /**
@@ -24,8 +27,10 @@ public class EmployeeApiTest {
     
     private static final LoggerUtil logger = LoggerUtil.getLogger(EmployeeApiTest.class);
     private ApiClient apiClient;
+    private EmployeeCrudFlow flow;
     private ConfigReader configReader;
-    private String userId;
+    // Written and read by dependent tests that may run on different threads
+    private volatile String userId;
 
     private String name1 = "Test User";
     private String salary1 = "1001";
@@ -38,15 +43,27 @@ public class EmployeeApiTest {
     /**
      * Setup method before test class execution
      */
-    @BeforeTest(groups = {"smoke"})
+    @BeforeTest(groups = {"smoke", "data-driven"})
     public void setUp() {
         logger.info("========== API TEST SETUP START ==========");
-        configReader = new ConfigReader();
+        configReader = ConfigReader.getInstance();
         apiClient = new ApiClient(configReader.getApiBaseUrl());
-        logger.info("API Client initialized with base URL: " + configReader.getApiBaseUrl());
+        flow = new EmployeeCrudFlow(apiClient);
+        logger.info("API Client initialized with base URL: {}", configReader.getApiBaseUrl());
         logger.info("========== API TEST SETUP END ==========");
     }
     
+    /**
+     * Teardown method after test class execution
+     */
+    @AfterTest(alwaysRun = true)
+    public void tearDown() {
+        if (apiClient != null) {
+            logger.info(apiClient.getRateLimiter().toString());
+            apiClient.close();
+        }
+    }
+    
     /**
      * Test creating a new user via API
      */
@@ -62,19 +79,20 @@ public class EmployeeApiTest {
                 age1
         );
         
-        logger.info("Employee payload created: " + userPayload.toString());
+        logger.info("Employee payload created: {}", userPayload);
         
         // Send POST request
-        Response response = apiClient.post("/api/v1/create", userPayload);
+        Response response = flow.create(userPayload);
         
         // Assertions
         assertEquals(response.getStatusCode(), 200, "Status code should be 200 for successful user creation");
-        assertTrue(response.getBody().asString().contains("success"),
-                "Response should contain 'success'");
+        EmployeeResponse body = EmployeeResponse.from(response);
+        assertTrue(body.isSuccess(), "Response status should be 'success'; Result: " + body.getStatus());
+        assertNotNull(body.getData(), "Response should contain the created employee");
         
         // Extract userId for later use
-        userId = response.jsonPath().getString("data.id");
-        logger.info("Employee created with ID: " + userId);
+        userId = body.getData().getId();
+        logger.info("Employee created with ID: {}", userId);
         
         logger.info("Test passed: testCreateEmployee");
     }
@@ -84,23 +102,22 @@ public class EmployeeApiTest {
      */
     @Test(description = "Test retrieving user details via API", dependsOnMethods = "testCreateEmployee",
             groups = { "smoke" })
-    public void testGetEmployee() throws InterruptedException {
+    public void testGetEmployee() {
         logger.info("Starting test: testGetEmployee");
-        logger.info("Retrieving user with ID: " + userId);
-        logger.info("60 seconds delay due to 429 Too Many Requests error");
-        Thread.sleep(60000);
+        logger.info("Retrieving user with ID: {}", userId);
         // Send GET request
-        Response response = apiClient.get("/api/v1/employee/" + userId);
+        Response response = flow.get(userId);
 
         // Assertions
         assertEquals(response.getStatusCode(), 200, "Status code should be 200 for successful retrieval");
         /*
-        assertEquals(response.jsonPath().getString("data.employee_name"), name1,
-                "Employee name should match the created name; Excepted: " + name1 + "; Result: " + response.jsonPath().getString("data.employee_name"));
-        assertEquals(response.jsonPath().getString("data.employee_salary"), salary1,
-                "Salary should match; Excepted: " + salary1 + "; Result: " + response.jsonPath().getString("data.employee_salary"));
-        assertEquals(response.jsonPath().getString("data.employee_age"), age1,
-                "Salary should match; Excepted: " + age1 + "; Result: " + response.jsonPath().getString("data.employee_age"));
+        EmployeeResponse.Employee employee = EmployeeResponse.from(response).getData();
+        assertEquals(employee.getName(), name1,
+                "Employee name should match the created name; Excepted: " + name1 + "; Result: " + employee.getName());
+        assertEquals(employee.getSalary(), salary1,
+                "Salary should match; Excepted: " + salary1 + "; Result: " + employee.getSalary());
+        assertEquals(employee.getAge(), age1,
+                "Salary should match; Excepted: " + age1 + "; Result: " + employee.getAge());
         */
         logger.info("Test passed: testGetEmployee");
     }
@@ -110,29 +127,29 @@ public class EmployeeApiTest {
      */
     @Test(description = "Test updating user details via API", dependsOnMethods = "testGetEmployee",
             groups = { "smoke" })
-    public void testUpdateEmployee() throws InterruptedException {
+    public void testUpdateEmployee() {
         logger.info("Starting test: testUpdateEmployee");
-        logger.info("60 seconds delay due to 429 Too Many Requests error");
-        Thread.sleep(60000);
         // Create updated payload
         CreateEmployeePayload updatedPayload = new CreateEmployeePayload();
         updatedPayload.setName(name2);
         updatedPayload.setSalary(salary2);
         updatedPayload.setAge(age2);
         
-        logger.info("Updated payload created: " + updatedPayload.toString());
+        logger.info("Updated payload created: {}", updatedPayload);
         
         // Send PUT request
-        Response response = apiClient.put("/api/v1/update/" + userId, updatedPayload);
+        Response response = flow.update(userId, updatedPayload);
         
         // Assertions
         assertEquals(response.getStatusCode(), 200, "Status code should be 200 for successful retrieval");
-        assertEquals(response.jsonPath().getString("data.name"), name2,
-                "Employee name should match the created name; Excepted: " + name2 + "; Result: " + response.jsonPath().getString("data.name"));
-        assertEquals(response.jsonPath().getString("data.salary"), salary2,
-                "Salary should match; Excepted: " + salary2 + "; Result: " + response.jsonPath().getString("data.salary"));
-        assertEquals(response.jsonPath().getString("data.age"), age2,
-                "Salary should match; Excepted: " + age2 + "; Result: " + response.jsonPath().getString("data.age"));
+        EmployeeResponse.Employee employee = EmployeeResponse.from(response).getData();
+        assertNotNull(employee, "Response should contain the updated employee");
+        assertEquals(employee.getName(), name2,
+                "Employee name should match the created name; Excepted: " + name2 + "; Result: " + employee.getName());
+        assertEquals(employee.getSalary(), salary2,
+                "Salary should match; Excepted: " + salary2 + "; Result: " + employee.getSalary());
+        assertEquals(employee.getAge(), age2,
+                "Salary should match; Excepted: " + age2 + "; Result: " + employee.getAge());
 
         logger.info("Test passed: testUpdateEmployee");
     }
@@ -142,13 +159,11 @@ public class EmployeeApiTest {
      */
     @Test(description = "Test deleting a user via API", dependsOnMethods = "testUpdateEmployee",
             groups = { "smoke" })
-    public void testDeleteEmployee() throws InterruptedException {
+    public void testDeleteEmployee() {
         logger.info("Starting test: testDeleteEmployee");
-        logger.info("Deleting user with ID: " + userId);
-        logger.info("60 seconds delay due to 429 Too Many Requests error");
-        Thread.sleep(60000);
+        logger.info("Deleting user with ID: {}", userId);
         // Send DELETE request
-        Response response = apiClient.delete("/api/v1/delete/" + userId);
+        Response response = flow.delete(userId);
         
         // Assertions
         assertEquals(response.getStatusCode(), 200, "Status code should be 200 for successful deletion");
@@ -156,6 +171,40 @@ public class EmployeeApiTest {
         logger.info("Test passed: testDeleteEmployee");
     }
     
+    /**
+     * Test creating and deleting the employees of the employees data set
+     * @param name Employee name
+     * @param salary Employee salary
+     * @param age Employee age
+     */
+    @Test(description = "Test creating and deleting employees from a data set",
+            dataProvider = TestDataProviders.EMPLOYEES, dataProviderClass = TestDataProviders.class,
+            groups = { "data-driven" })
+    public void testCreateEmployeeFromData(String name, String salary, String age) {
+        logger.info("Starting test: testCreateEmployeeFromData with employee: {}", name);
+        
+        Response response = flow.create(new CreateEmployeePayload(name, salary, age));
+        
+        // Assertions
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200 for successful user creation");
+        EmployeeResponse body = EmployeeResponse.from(response);
+        assertTrue(body.isSuccess(), "Response status should be 'success'; Result: " + body.getStatus());
+        EmployeeResponse.Employee employee = body.getData();
+        assertNotNull(employee, "Response should contain the created employee");
+        assertEquals(employee.getName(), name,
+                "Employee name should match; Excepted: " + name + "; Result: " + employee.getName());
+        assertEquals(employee.getSalary(), salary,
+                "Salary should match; Excepted: " + salary + "; Result: " + employee.getSalary());
+        assertEquals(employee.getAge(), age,
+                "Age should match; Excepted: " + age + "; Result: " + employee.getAge());
+        
+        // Clean up the created employee
+        Response deleteResponse = flow.delete(employee.getId());
+        assertEquals(deleteResponse.getStatusCode(), 200, "Status code should be 200 for successful deletion");
+        
+        logger.info("Test passed: testCreateEmployeeFromData");
+    }
+    
     /**
      * Test error handling - get non-existent user
      */
@@ -168,8 +217,8 @@ public class EmployeeApiTest {
         
         // Assertions
         assertEquals(response.getStatusCode(), 404, "Status code should be 404 for non-existent user");
-        assertTrue(response.getBody().asString().contains("not found") || 
-                response.getBody().asString().contains("Not Found"), 
+        String body = response.getBody().asString();
+        assertTrue(body.contains("not found") || body.contains("Not Found"), 
                 "Response should indicate user not found");
         
         logger.info("Test passed: testGetNonExistentEmployee");
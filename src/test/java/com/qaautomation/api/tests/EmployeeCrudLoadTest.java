@@ -0,0 +1,83 @@
+package com.qaautomation.api.tests;
+
+import com.qaautomation.api.flows.EmployeeCrudFlow;
+import com.qaautomation.load.LoadRunner;
+import com.qaautomation.load.LoadStatistics;
+import com.qaautomation.api.payloads.CreateEmployeePayload;
+import com.qaautomation.utils.ApiClient;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.RateLimiter;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * Load scenario of the Employee API: runs the create, get, update and delete flow of
+ * {@link EmployeeApiTest} under the load configured with load.* and reports step latencies.
+ * Requests bypass the client-side rate limit; 429 responses count as errors instead of being retried.
+ * Run with testng-load.xml (mvn test -Pload).
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class EmployeeCrudLoadTest {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(EmployeeCrudLoadTest.class);
+    private ConfigReader configReader;
+    private ApiClient apiClient;
+    private EmployeeCrudFlow flow;
+
+    /**
+     * Setup method before the load run
+     */
+    @BeforeClass(groups = {"load"})
+    public void setUp() {
+        configReader = ConfigReader.getInstance();
+        // The client must not throttle or retry, or the latencies would measure the client, not the service
+        String baseUrl = configReader.getApiBaseUrl();
+        apiClient = new ApiClient(baseUrl, configReader, RateLimiter.passThrough(URI.create(baseUrl).getHost()));
+        flow = new EmployeeCrudFlow(apiClient);
+    }
+
+    /**
+     * Teardown method after the load run
+     */
+    @AfterClass(alwaysRun = true)
+    public void tearDown() {
+        if (apiClient != null) {
+            apiClient.close();
+        }
+    }
+
+    /**
+     * Run the Employee CRUD flow under load and check its error rate
+     */
+    @Test(description = "Run the Employee CRUD flow under load", groups = { "load" })
+    public void testEmployeeCrudUnderLoad() {
+        LoadStatistics statistics = new LoadRunner(configReader).run(this::runFlow);
+        statistics.logSummary();
+        statistics.writeReport(Paths.get(configReader.getLoadReportDir()));
+        
+        assertTrue(statistics.getIterations() > 0, "Load run should complete at least one iteration");
+        assertTrue(statistics.getErrorPercent() <= configReader.getLoadMaxErrorPercent(),
+                "Error rate should be at most " + configReader.getLoadMaxErrorPercent() + "%; Result: "
+                        + statistics.getErrorPercent() + "%");
+    }
+
+    private boolean runFlow(long number, long intendedStartNanos, LoadStatistics statistics) {
+        CreateEmployeePayload created = new CreateEmployeePayload("Load User " + number, "1001", "30");
+        CreateEmployeePayload updated = new CreateEmployeePayload("Load User " + number + " Modified", "1002", "31");
+        boolean[] firstStep = {true};
+        return flow.run(created, updated, (step, startNanos, response, success) -> {
+            // Only the first step can be held back by the schedule; later steps start when the previous ends
+            statistics.recordStep(step, firstStep[0] ? intendedStartNanos : startNanos, startNanos, success);
+            firstStep[0] = false;
+        });
+    }
+}
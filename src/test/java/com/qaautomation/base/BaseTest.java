@@ -2,20 +2,42 @@ package com.qaautomation.base;
 
 import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.HarMode;
+import com.microsoft.playwright.options.HarNotFound;
+import com.microsoft.playwright.options.RouteFromHarUpdateContentPolicy;
+import com.qaautomation.ui.fixtures.PageFixtures;
+import com.qaautomation.ui.fixtures.SubmitEndpointStub;
 import com.qaautomation.utils.BrowserFactory;
 import com.qaautomation.utils.ConfigReader;
 import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.NetworkPolicy;
+import com.qaautomation.utils.PhaseTimer;
+import com.qaautomation.utils.TraceRecorder;
 import com.qaautomation.utils.WaitHelper;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
 
-import java.util.regex.Pattern;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Abstract base class for all tests providing common setup and teardown operations.
  * Manages Playwright browser lifecycle and logging configuration.
+ * Playwright and the browser are started once per worker thread and reused,
+ * while every test gets its own browser context and page.
+ * All Playwright objects are held per thread, so test methods can run in parallel.
  * 
  * @author QA Framework Team
  * @version 1.0
@@ -23,42 +45,79 @@ import java.util.regex.Pattern;
 public abstract class BaseTest {
     
     protected static final LoggerUtil logger = LoggerUtil.getLogger(BaseTest.class);
-    protected Playwright playwright;
-    protected Browser browser;
-    protected BrowserContext browserContext;
-    protected Page page;
-    protected ConfigReader configReader;
-    protected BrowserFactory browserFactory;
+    protected final ConfigReader configReader = ConfigReader.getInstance();
+    protected final BrowserFactory browserFactory = new BrowserFactory();
+    protected final TraceRecorder traceRecorder = new TraceRecorder(configReader);
 
+    // Playwright objects are thread-confined, so each worker thread owns one instance
+    private static final ThreadLocal<Playwright> THREAD_PLAYWRIGHT = new ThreadLocal<>();
+    private static final ThreadLocal<Browser> THREAD_BROWSER = new ThreadLocal<>();
+    private static final ThreadLocal<BrowserContext> THREAD_CONTEXT = new ThreadLocal<>();
+    private static final ThreadLocal<Page> THREAD_PAGE = new ThreadLocal<>();
+    private static final ThreadLocal<SubmitEndpointStub> THREAD_SUBMIT_STUB = new ThreadLocal<>();
+    private static final Queue<Playwright> ALL_PLAYWRIGHTS = new ConcurrentLinkedQueue<>();
 
-    private static final String CONSENT_BUTTON = "button:has-text('Consent')";
+    public static final String CONSENT_BUTTON = "button:has-text('Consent')";
+
+    // Consent is given once per suite; later contexts start from the saved storage state
+    private static final ThreadLocal<Boolean> THREAD_CONSENT_GIVEN = ThreadLocal.withInitial(() -> false);
+    private static final AtomicBoolean CONSENT_STATE_CLAIMED = new AtomicBoolean(false);
+    private static volatile Path consentStatePath;
+
+    /**
+     * Suite setup executed once before all tests.
+     * Discards the consent state left over from a previous run.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void setUpSuite() {
+        try {
+            Files.deleteIfExists(Paths.get(configReader.getConsentStatePath()));
+        } catch (IOException e) {
+            logger.warn("Could not delete previous consent state: {}", e.getMessage());
+        }
+        consentStatePath = null;
+        CONSENT_STATE_CLAIMED.set(false);
+    }
     
     /**
      * Setup method executed before each test method.
-     * Initializes Playwright, browser, and logging configuration.
+     * Reuses the browser of the current thread and opens a fresh context and page.
+     * @param method Test method about to run
      */
     @BeforeMethod(alwaysRun = true)
-    public void setUp() {
+    public void setUp(Method method) {
         try {
             logger.info("========== TEST SETUP START ==========");
             
-            // Initialize configuration reader
-            configReader = new ConfigReader();
-            logger.info("Configuration loaded successfully");
-            
-            // Initialize browser factory
-            browserFactory = new BrowserFactory();
-            
-            // Launch browser
-            String browserType = configReader.getBrowserType();
-            logger.info("Launching browser: " + browserType);
-            
-            playwright = Playwright.create();
-            browser = browserFactory.createBrowser(playwright, browserType);
-            browserContext = browser.newContext(new Browser.NewContextOptions()
-                    .setLocale("en-US"));
+            // Reuse or launch the browser of this worker thread
+            Playwright playwright = getOrCreatePlaywright();
+            Browser browser = getOrCreateBrowser(playwright);
 
-            page = browserContext.newPage();
+            // A new context per test keeps cookies, storage and cache isolated
+            long contextStart = System.nanoTime();
+            Browser.NewContextOptions contextOptions = new Browser.NewContextOptions()
+                    .setLocale("en-US");
+            Path savedConsentState = consentStatePath;
+            if (savedConsentState != null) {
+                contextOptions.setStorageStatePath(savedConsentState);
+                logger.info("Reusing saved consent state: {}", savedConsentState);
+            }
+            BrowserContext browserContext = browserFactory.createBrowserContext(browser, contextOptions);
+            THREAD_CONTEXT.set(browserContext);
+            if (configReader.isUiFixtureMode()) {
+                PageFixtures fixtures = new PageFixtures(configReader.getBaseUrl(), configReader.getUiFixtureDir());
+                THREAD_SUBMIT_STUB.set(fixtures.install(browserContext));
+            }
+            applyHarMode(browserContext, method);
+            traceRecorder.startChunk(browserContext, getClass().getSimpleName() + "." + method.getName());
+            PhaseTimer.record("context.create", contextStart);
+
+            long pageStart = System.nanoTime();
+            Page page = browserContext.newPage();
+            THREAD_PAGE.set(page);
+            THREAD_CONSENT_GIVEN.set(false);
+            registerConsentHandler(page);
+            PhaseTimer.record("page.create", pageStart);
             
             logger.info("Browser context created successfully");
             logger.info("========== TEST SETUP END ==========");
@@ -71,57 +130,251 @@ public abstract class BaseTest {
     
     /**
      * Teardown method executed after each test method.
-     * Closes browser context, browser, and Playwright instance.
+     * Closes the page and browser context; the browser stays open for the next test.
+     * @param result Result of the test method that has run
      */
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
+        long start = System.nanoTime();
         try {
             logger.info("========== TEST TEARDOWN START ==========");
             
+            saveConsentStateOnce();
+
+            Page page = THREAD_PAGE.get();
             if (page != null) {
+                THREAD_PAGE.remove();
                 page.close();
                 logger.info("Page closed");
             }
             
+            BrowserContext browserContext = THREAD_CONTEXT.get();
             if (browserContext != null) {
-                browserContext.close();
-                logger.info("Browser context closed");
-            }
-            
-            if (browser != null) {
-                browser.close();
-                logger.info("Browser closed");
-            }
-            
-            if (playwright != null) {
-                playwright.close();
-                logger.info("Playwright closed");
+                NetworkPolicy.Stats networkStats = NetworkPolicy.statsFor(browserContext);
+                if (networkStats != null) {
+                    logger.info("Network: {}", networkStats);
+                }
+                try {
+                    traceRecorder.stopChunk(browserContext,
+                            getClass().getSimpleName() + "." + result.getMethod().getMethodName(),
+                            result.getStatus() == ITestResult.FAILURE);
+                } catch (Exception e) {
+                    // E.g. setup failed before the chunk was started; the context must still be closed
+                    logger.warn("Could not stop trace chunk: {}", e.getMessage());
+                } finally {
+                    THREAD_CONTEXT.remove();
+                    THREAD_SUBMIT_STUB.remove();
+                    browserContext.close();
+                    logger.info("Browser context closed");
+                }
             }
             
             logger.info("========== TEST TEARDOWN END ==========");
             
         } catch (Exception e) {
             logger.error("Error during test teardown", e);
+        } finally {
+            PhaseTimer.record("teardown", start);
+        }
+    }
+
+    /**
+     * Shutdown method executed once after the suite.
+     * Closes every Playwright instance, together with its browser, started by the worker threads.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void tearDownSuite() {
+        WaitHelper.logWaitStatistics();
+        TraceRecorder.awaitPendingWrites();
+        Playwright instance;
+        while ((instance = ALL_PLAYWRIGHTS.poll()) != null) {
+            try {
+                instance.close();
+                logger.info("Playwright closed");
+            } catch (Exception e) {
+                logger.error("Error while closing Playwright", e);
+            }
+        }
+        THREAD_BROWSER.remove();
+        THREAD_PLAYWRIGHT.remove();
+    }
+
+    /**
+     * Get the Playwright instance of the current thread
+     * @return Playwright instance
+     */
+    protected Playwright getPlaywright() {
+        return THREAD_PLAYWRIGHT.get();
+    }
+
+    /**
+     * Get the browser of the current thread
+     * @return Browser instance
+     */
+    protected Browser getBrowser() {
+        return THREAD_BROWSER.get();
+    }
+
+    /**
+     * Get the browser context of the currently running test
+     * @return BrowserContext instance
+     */
+    protected BrowserContext getBrowserContext() {
+        return THREAD_CONTEXT.get();
+    }
+
+    /**
+     * Get the page of the currently running test
+     * @return Page instance
+     */
+    protected Page getPage() {
+        return THREAD_PAGE.get();
+    }
+
+    /**
+     * Get the stub of the form submit endpoint, available in fixture mode
+     * @return SubmitEndpointStub instance, or null when the live application is used
+     */
+    protected SubmitEndpointStub getSubmitStub() {
+        return THREAD_SUBMIT_STUB.get();
+    }
+
+    /**
+     * Get the Playwright instance of the current thread, creating it on first use
+     * @return Playwright instance
+     */
+    private Playwright getOrCreatePlaywright() {
+        Playwright instance = THREAD_PLAYWRIGHT.get();
+        if (instance == null) {
+            logger.info("Starting Playwright for thread: {}", Thread.currentThread().getName());
+            long start = System.nanoTime();
+            instance = Playwright.create();
+            PhaseTimer.record("playwright.create", start);
+            THREAD_PLAYWRIGHT.set(instance);
+            ALL_PLAYWRIGHTS.add(instance);
         }
+        return instance;
+    }
+
+    /**
+     * Get the browser of the current thread, launching it on first use or after a crash
+     * @param playwright Playwright instance of the current thread
+     * @return Browser instance
+     */
+    private Browser getOrCreateBrowser(Playwright playwright) {
+        Browser instance = THREAD_BROWSER.get();
+        if (instance == null || !instance.isConnected()) {
+            String browserType = configReader.getBrowserType();
+            logger.info("Launching browser: {}", browserType);
+            long start = System.nanoTime();
+            instance = browserFactory.createBrowser(playwright, browserType);
+            PhaseTimer.record("browser.launch", start);
+            THREAD_BROWSER.set(instance);
+        }
+        return instance;
     }
     
+    /**
+     * Record the network traffic of the test into a HAR file, or serve it from one,
+     * depending on the configured HAR mode
+     * @param browserContext Browser context of the test
+     * @param method Test method about to run
+     */
+    private void applyHarMode(BrowserContext browserContext, Method method) throws IOException {
+        String harMode = configReader.getHarMode();
+        if (ConfigReader.HAR_MODE_OFF.equals(harMode)) {
+            return;
+        }
+
+        Path harFile = Paths.get(configReader.getHarDir(),
+                getClass().getSimpleName() + "." + method.getName() + ".har");
+        BrowserContext.RouteFromHAROptions harOptions = new BrowserContext.RouteFromHAROptions();
+        String urlPattern = configReader.getHarUrlPattern();
+        if (!urlPattern.isEmpty()) {
+            harOptions.setUrl(urlPattern);
+        }
+
+        if (ConfigReader.HAR_MODE_RECORD.equals(harMode)) {
+            // The HAR file is written when the context is closed in tearDown
+            Files.createDirectories(harFile.toAbsolutePath().getParent());
+            harOptions.setUpdate(true)
+                    .setUpdateContent(RouteFromHarUpdateContentPolicy.EMBED)
+                    .setUpdateMode(HarMode.MINIMAL);
+            logger.info("Recording network traffic to HAR: {}", harFile);
+        } else {
+            if (!Files.exists(harFile)) {
+                throw new IllegalStateException("HAR file not found, record it first with har.mode=record: " + harFile);
+            }
+            harOptions.setNotFound(configReader.isHarFallbackEnabled() ? HarNotFound.FALLBACK : HarNotFound.ABORT);
+            logger.info("Replaying network traffic from HAR: {}", harFile);
+        }
+        browserContext.routeFromHAR(harFile, harOptions);
+    }
+
     /**
      * Navigate to a specific URL
      * @param url The URL to navigate to
      */
     protected void navigateTo(String url) {
-        logger.info("Navigating to URL: " + url);
+        logger.info("Navigating to URL: {}", url);
+        Page page = getPage();
+        long start = System.nanoTime();
         page.navigate(url);
+        PhaseTimer.record("navigate", start);
         clickConsentButton(page);
         logger.info("Navigation completed");
     }
 
+    /**
+     * Click the consent button if the banner is already shown.
+     * Does not wait: a banner appearing later is handled by the locator handler.
+     * @param page Playwright page instance
+     */
     protected void clickConsentButton(Page page){
-        try {
-            page.click(CONSENT_BUTTON);
+        long start = System.nanoTime();
+        Locator consentButton = page.locator(CONSENT_BUTTON).first();
+        if (consentButton.isVisible()) {
+            consentButton.click();
+            THREAD_CONSENT_GIVEN.set(true);
             logger.info("Consent button clicked");
+        } else {
+            logger.debug("Consent banner not shown");
+        }
+        PhaseTimer.record("consent", start);
+    }
+
+    /**
+     * Register a handler that clicks the consent button whenever the banner
+     * gets in the way of a page action, without blocking when it does not appear
+     * @param page Playwright page instance
+     */
+    private void registerConsentHandler(Page page) {
+        page.addLocatorHandler(page.locator(CONSENT_BUTTON).first(), consentButton -> {
+            consentButton.click();
+            THREAD_CONSENT_GIVEN.set(true);
+            logger.info("Consent banner appeared and was accepted");
+        });
+    }
+
+    /**
+     * Save the storage state of the first context that accepted the consent banner,
+     * so contexts created afterwards start with consent already given
+     */
+    private void saveConsentStateOnce() {
+        BrowserContext browserContext = THREAD_CONTEXT.get();
+        if (browserContext == null || !THREAD_CONSENT_GIVEN.get()
+                || !CONSENT_STATE_CLAIMED.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Path path = Paths.get(configReader.getConsentStatePath());
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            browserContext.storageState(new BrowserContext.StorageStateOptions().setPath(path));
+            consentStatePath = path;
+            logger.info("Consent state saved to: {}", path);
         } catch (Exception e) {
-            logger.info("Consent button not found: " + e.toString());
+            CONSENT_STATE_CLAIMED.set(false);
+            logger.warn("Could not save consent state: {}", e.getMessage());
         }
     }
 }
@@ -0,0 +1,115 @@
+package com.qaautomation.data;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams the rows of a CSV file, one line per row.
+ * The first line is the header; blank lines and lines starting with # are skipped.
+ * Fields may be quoted with ", a quote inside a quoted field being written "".
+ * Quoted fields cannot span lines.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class CsvRowIterator extends RowIterator {
+
+    private final BufferedReader reader;
+    private final String source;
+    private final int columns;
+    private long lineNumber;
+
+    /**
+     * Constructor - reads the header line
+     * @param reader Reader of the CSV content, closed with the iterator
+     * @param source Name of the source, used in error messages
+     * @param limit Maximum number of rows, 0 for all rows
+     */
+    public CsvRowIterator(BufferedReader reader, String source, long limit) {
+        super(limit);
+        this.reader = reader;
+        this.source = source;
+        try {
+            String header = nextLine();
+            if (header == null) {
+                throw new IllegalArgumentException("CSV data set has no header: " + source);
+            }
+            this.columns = parseLine(header).length;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    @Override
+    protected Object[] readRow() {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        Object[] row = parseLine(line);
+        if (row.length != columns) {
+            throw new IllegalArgumentException(String.format("%s line %d has %d fields, the header %d",
+                    source, lineNumber, row.length, columns));
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close data set: " + source, e);
+        }
+    }
+
+    private String nextLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.trim().isEmpty() && !line.startsWith("#")) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read data set: " + source, e);
+        }
+    }
+
+    private Object[] parseLine(String line) {
+        List<String> fields = new ArrayList<>(columns > 0 ? columns : 4);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException(source + " line " + lineNumber + " has an unterminated quote");
+        }
+        fields.add(field.toString());
+        return fields.toArray();
+    }
+}
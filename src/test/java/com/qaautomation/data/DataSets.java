@@ -0,0 +1,90 @@
+package com.qaautomation.data;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+/**
+ * Opens the row source of a test data set from its configured location.
+ * Sources are written classpath:&lt;resource&gt; or file:&lt;path&gt; for .csv and .jsonl files,
+ * and generated:&lt;rows&gt; for synthetic rows from the seeded generator of the data set.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public final class DataSets {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(DataSets.class);
+    private static final String CLASSPATH_PREFIX = "classpath:";
+    private static final String FILE_PREFIX = "file:";
+    private static final String GENERATED_PREFIX = "generated:";
+
+    private DataSets() {
+    }
+
+    /**
+     * Open the configured source of a data set
+     * @param dataSet Data set name, its source read from data.&lt;dataSet&gt;
+     * @param defaultSource Source used when none is configured
+     * @param columns Columns of a row, in parameter order; also the fields read from JSON Lines
+     * @param generator Generator of synthetic rows
+     * @return Lazy row source
+     */
+    public static RowIterator open(String dataSet, String defaultSource, String[] columns,
+                                   GeneratedRowIterator.RowGenerator generator) {
+        ConfigReader config = ConfigReader.getInstance();
+        String source = config.getDataSource(dataSet, defaultSource);
+        long limit = config.getDataRowsLimit();
+        logger.info("Data set {} streams from {} (row limit: {})", dataSet, source, limit > 0 ? limit : "none");
+
+        if (source.startsWith(GENERATED_PREFIX)) {
+            long rows = Long.parseLong(source.substring(GENERATED_PREFIX.length()).trim());
+            return new GeneratedRowIterator(generator, rows, config.getDataSeed(), limit);
+        }
+        BufferedReader reader = openReader(source);
+        if (source.endsWith(".jsonl")) {
+            return new JsonlRowIterator(reader, source, columns, limit);
+        }
+        if (source.endsWith(".csv")) {
+            return new CsvRowIterator(reader, source, limit);
+        }
+        closeQuietly(reader);
+        throw new IllegalArgumentException("Unsupported data set format, expected .csv or .jsonl: " + source);
+    }
+
+    private static BufferedReader openReader(String source) {
+        try {
+            InputStream input;
+            if (source.startsWith(CLASSPATH_PREFIX)) {
+                String resource = source.substring(CLASSPATH_PREFIX.length());
+                input = DataSets.class.getClassLoader().getResourceAsStream(resource);
+                if (input == null) {
+                    throw new IllegalArgumentException("Data set not found on classpath: " + resource);
+                }
+            } else if (source.startsWith(FILE_PREFIX)) {
+                input = Files.newInputStream(Paths.get(source.substring(FILE_PREFIX.length())));
+            } else {
+                throw new IllegalArgumentException("Unsupported data set source: " + source);
+            }
+            return new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open data set: " + source, e);
+        }
+    }
+
+    private static void closeQuietly(BufferedReader reader) {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close data set reader", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.qaautomation.data;
+
+import java.util.Random;
+
+/**
+ * Generates a fixed number of synthetic rows from a seed.
+ * Rows are created on demand, and the same seed always gives the same rows.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class GeneratedRowIterator extends RowIterator {
+
+    private final RowGenerator generator;
+    private final long rows;
+    private final Random random;
+    private long index;
+
+    /**
+     * Constructor
+     * @param generator Generator of a row
+     * @param rows Number of rows
+     * @param seed Seed of the random values
+     * @param limit Maximum number of rows, 0 for all rows
+     */
+    public GeneratedRowIterator(RowGenerator generator, long rows, long seed, long limit) {
+        super(limit);
+        this.generator = generator;
+        this.rows = rows;
+        this.random = new Random(seed);
+    }
+
+    @Override
+    protected Object[] readRow() {
+        return index < rows ? generator.generate(random, index++) : null;
+    }
+
+    /**
+     * Generator of one synthetic row
+     */
+    @FunctionalInterface
+    public interface RowGenerator {
+
+        /**
+         * Generate a row
+         * @param random Seeded random source shared by the rows of a data set
+         * @param index Zero-based row number
+         * @return Row values
+         */
+        Object[] generate(Random random, long index);
+    }
+}
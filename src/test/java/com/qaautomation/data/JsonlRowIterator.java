@@ -0,0 +1,85 @@
+package com.qaautomation.data;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streams the rows of a JSON Lines file, one JSON object per line.
+ * The row holds the values of the requested fields as strings, in the requested order;
+ * a missing or null field gives null. Blank lines are skipped.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class JsonlRowIterator extends RowIterator {
+
+    private final BufferedReader reader;
+    private final String source;
+    private final String[] fields;
+    private long lineNumber;
+
+    /**
+     * Constructor
+     * @param reader Reader of the JSON Lines content, closed with the iterator
+     * @param source Name of the source, used in error messages
+     * @param fields Fields making up a row
+     * @param limit Maximum number of rows, 0 for all rows
+     */
+    public JsonlRowIterator(BufferedReader reader, String source, String[] fields, long limit) {
+        super(limit);
+        this.reader = reader;
+        this.source = source;
+        this.fields = fields.clone();
+    }
+
+    @Override
+    protected Object[] readRow() {
+        String line = nextLine();
+        if (line == null) {
+            return null;
+        }
+        JsonObject object;
+        try {
+            object = JsonParser.parseString(line).getAsJsonObject();
+        } catch (JsonParseException | IllegalStateException e) {
+            throw new IllegalArgumentException(source + " line " + lineNumber + " is not a JSON object", e);
+        }
+        Object[] row = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            JsonElement value = object.get(fields[i]);
+            row[i] = value == null || value.isJsonNull() ? null
+                    : value.isJsonPrimitive() ? value.getAsString() : value.toString();
+        }
+        return row;
+    }
+
+    @Override
+    public void close() {
+        try {
+            reader.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close data set: " + source, e);
+        }
+    }
+
+    private String nextLine() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.trim().isEmpty()) {
+                    return line;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read data set: " + source, e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.qaautomation.data;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Base of the lazy row sources of data providers.
+ * Rows are produced one at a time as TestNG asks for them, so a data set is never held in memory;
+ * the source is closed as soon as its last row, or the configured row limit, is reached,
+ * and when a row cannot be read.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public abstract class RowIterator implements Iterator<Object[]>, AutoCloseable {
+
+    private final long limit;
+    private long returned;
+    private Object[] next;
+    private boolean done;
+
+    /**
+     * Constructor
+     * @param limit Maximum number of rows, 0 for all rows
+     */
+    protected RowIterator(long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Read the next row of the source
+     * @return Row, or null at the end of the source
+     */
+    protected abstract Object[] readRow();
+
+    /**
+     * Release the resources of the source
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public final synchronized boolean hasNext() {
+        if (next == null && !done) {
+            try {
+                next = limit > 0 && returned >= limit ? null : readRow();
+            } catch (RuntimeException e) {
+                done = true;
+                closeQuietly(e);
+                throw e;
+            }
+            if (next == null) {
+                done = true;
+                close();
+            }
+        }
+        return next != null;
+    }
+
+    private void closeQuietly(RuntimeException failure) {
+        try {
+            close();
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+    @Override
+    public final synchronized Object[] next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Object[] row = next;
+        next = null;
+        returned++;
+        return row;
+    }
+}
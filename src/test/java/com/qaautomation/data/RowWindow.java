@@ -0,0 +1,94 @@
+package com.qaautomation.data;
+
+import com.qaautomation.utils.LoggerUtil;
+import org.testng.ITestNGMethod;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bounds the rows of a data provider that are in flight.
+ * TestNG drains the iterator of a parallel data provider up front and queues a task per row,
+ * which would hold a whole data set in memory. The window makes the iterator wait until tests of
+ * earlier rows have finished, so at most the window size of rows is queued at any time.
+ * Finished tests are reported by {@link com.qaautomation.listeners.DataProviderWindowListener};
+ * without that listener rows are passed on unbounded.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public final class RowWindow implements Iterator<Object[]> {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(RowWindow.class);
+    private static final Map<ITestNGMethod, RowWindow> WINDOWS = new ConcurrentHashMap<>();
+    private static volatile boolean listenerActive;
+
+    private final ITestNGMethod method;
+    private final Iterator<Object[]> rows;
+    private final Semaphore permits;
+
+    private RowWindow(ITestNGMethod method, Iterator<Object[]> rows, int size) {
+        this.method = method;
+        this.rows = rows;
+        this.permits = new Semaphore(size);
+    }
+
+    /**
+     * Bound the rows of a data provider
+     * @param method Test method consuming the rows
+     * @param rows Row source
+     * @param size Maximum number of rows in flight
+     * @return Bounded rows, or the rows themselves when finished tests are not reported
+     */
+    public static Iterator<Object[]> bound(ITestNGMethod method, Iterator<Object[]> rows, int size) {
+        if (!listenerActive) {
+            logger.warn("DataProviderWindowListener is not registered, rows of {} are not bounded",
+                    method.getQualifiedName());
+            return rows;
+        }
+        RowWindow window = new RowWindow(method, rows, size);
+        WINDOWS.put(method, window);
+        return window;
+    }
+
+    /**
+     * Report that a test of a row has finished, letting the next row in
+     * @param method Test method that finished
+     */
+    public static void release(ITestNGMethod method) {
+        RowWindow window = WINDOWS.get(method);
+        if (window != null) {
+            window.permits.release();
+        }
+    }
+
+    /**
+     * Enable or disable bounding, set by the listener reporting finished tests
+     * @param active true if finished tests are reported
+     */
+    public static void setListenerActive(boolean active) {
+        listenerActive = active;
+    }
+
+    @Override
+    public boolean hasNext() {
+        boolean hasNext = rows.hasNext();
+        if (!hasNext) {
+            WINDOWS.remove(method, this);
+        }
+        return hasNext;
+    }
+
+    @Override
+    public Object[] next() {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for a row of " + method.getQualifiedName(), e);
+        }
+        return rows.next();
+    }
+}
@@ -0,0 +1,96 @@
+package com.qaautomation.data;
+
+import com.qaautomation.utils.ConfigReader;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.DataProvider;
+
+import java.util.Iterator;
+import java.util.Random;
+
+/**
+ * Streaming data providers of the data-driven tests.
+ * Each provider reads its data set lazily from the source configured under data.&lt;dataSet&gt;
+ * (data.invalid.emails, data.employees)
+ * and runs its rows in parallel, with at most data.provider.window rows in flight.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public final class TestDataProviders {
+
+    public static final String INVALID_EMAILS = "invalidEmails";
+    public static final String EMPLOYEES = "employees";
+
+    private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz0123456789";
+    private static final String[] DOMAINS = {"example", "mail", "test-domain", "company"};
+    private static final String[] FIRST_NAMES = {"Anna", "Bence", "Csilla", "David", "Eva", "Ferenc", "Gabor", "Hanna"};
+    private static final String[] LAST_NAMES = {"Kovacs", "Nagy", "Szabo", "Toth", "Varga", "Kiss", "Molnar", "Farkas"};
+
+    private TestDataProviders() {
+    }
+
+    /**
+     * Email addresses the submit form must reject: columns email
+     * @param method Test method consuming the rows
+     * @return Lazy rows
+     */
+    @DataProvider(name = INVALID_EMAILS, parallel = true)
+    public static Iterator<Object[]> invalidEmails(ITestNGMethod method) {
+        return stream(method, "invalid.emails", "classpath:data/invalid-emails.csv",
+                new String[] {"email"}, TestDataProviders::invalidEmail);
+    }
+
+    /**
+     * Employees created through the Employee API: columns name, salary, age
+     * @param method Test method consuming the rows
+     * @return Lazy rows
+     */
+    @DataProvider(name = EMPLOYEES, parallel = true)
+    public static Iterator<Object[]> employees(ITestNGMethod method) {
+        return stream(method, "employees", "classpath:data/employees.jsonl",
+                new String[] {"name", "salary", "age"}, TestDataProviders::employee);
+    }
+
+    private static Iterator<Object[]> stream(ITestNGMethod method, String dataSet, String defaultSource,
+                                             String[] columns, GeneratedRowIterator.RowGenerator generator) {
+        RowIterator rows = DataSets.open(dataSet, defaultSource, columns, generator);
+        return RowWindow.bound(method, rows, ConfigReader.getInstance().getDataProviderWindow());
+    }
+
+    private static Object[] invalidEmail(Random random, long index) {
+        String local = randomText(random, 3 + random.nextInt(8)) + index;
+        String domain = DOMAINS[random.nextInt(DOMAINS.length)];
+        switch (random.nextInt(7)) {
+            case 0:
+                return new Object[] {local + domain + ".com"};
+            case 1:
+                return new Object[] {local + "@" + domain};
+            case 2:
+                return new Object[] {local + "@@" + domain + ".com"};
+            case 3:
+                return new Object[] {local + " " + randomText(random, 3) + "@" + domain + ".com"};
+            case 4:
+                return new Object[] {"@" + domain + ".com"};
+            case 5:
+                return new Object[] {local + "@"};
+            default:
+                return new Object[] {local + "@" + domain + "."};
+        }
+    }
+
+    private static Object[] employee(Random random, long index) {
+        String name = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + index;
+        String salary = String.valueOf(1000 + random.nextInt(99000));
+        String age = String.valueOf(18 + random.nextInt(48));
+        return new Object[] {name, salary, age};
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,41 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.utils.ApiCallRecorder;
+import com.qaautomation.utils.LoggerUtil;
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Test listener that writes the API calls captured during a test to the log
+ * and to the Allure report, but only when the test fails.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class ApiCaptureListener implements IInvokedMethodListener {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(ApiCaptureListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ApiCallRecorder.clear();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        if (testResult.getStatus() == ITestResult.FAILURE && ApiCallRecorder.hasCalls()) {
+            String calls = ApiCallRecorder.dump();
+            logger.error("API calls of failed test {}:\n{}", testResult.getName(), calls);
+            Allure.addAttachment("API calls", "text/plain", calls);
+        } else {
+            ApiCallRecorder.clear();
+        }
+    }
+}
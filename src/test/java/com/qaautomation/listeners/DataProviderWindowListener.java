@@ -0,0 +1,41 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.data.RowWindow;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Test listener that reports finished data-driven tests to their {@link RowWindow},
+ * so that streaming data providers hand TestNG the next rows only as earlier ones complete.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class DataProviderWindowListener implements ITestListener {
+
+    @Override
+    public void onStart(ITestContext context) {
+        RowWindow.setListenerActive(true);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        RowWindow.release(result.getMethod());
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        RowWindow.release(result.getMethod());
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        RowWindow.release(result.getMethod());
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        RowWindow.release(result.getMethod());
+    }
+}
@@ -0,0 +1,197 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.TestDurationHistory;
+import org.testng.IConfigurationListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Orders the test methods of parallel tests longest first, using their durations from previous
+ * runs, so that the long tests start early and the worker threads finish close together.
+ * Methods chained by dependsOnMethods are kept together in their original order and weighed by
+ * the sum of their durations; methods without history are estimated at the mean of the known ones.
+ * Without any history the declared order is kept. The duration of every test method, from the
+ * start of its first before method configuration to the end of its last invocation or after method
+ * configuration, is saved to schedule.history.file when the suite ends.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class DurationSchedulingListener implements IMethodInterceptor, ITestListener, IConfigurationListener,
+        ISuiteListener {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(DurationSchedulingListener.class);
+
+    private final ConfigReader config = ConfigReader.getInstance();
+    // First start and last end in milliseconds of each test method, over all its invocations
+    private final Map<String, long[]> spans = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int threads = threadCount(context.getCurrentXmlTest());
+        if (!config.isScheduleEnabled() || threads < 2 || methods.size() < 2) {
+            // Sequential tests take as long in any order
+            return methods;
+        }
+        TestDurationHistory history = TestDurationHistory.load(Paths.get(config.getScheduleHistoryFile()));
+        if (history.isEmpty()) {
+            logger.info("No test duration history yet, '{}' keeps the declared order", context.getName());
+            return methods;
+        }
+
+        long mean = history.getMeanDuration();
+        List<Chain> chains = chain(methods);
+        for (Chain chain : chains) {
+            for (IMethodInstance method : chain.methods) {
+                chain.millis += history.getDuration(method.getMethod().getQualifiedName()).orElse(mean);
+            }
+        }
+        List<Chain> longestFirst = new ArrayList<>(chains);
+        longestFirst.sort(Comparator.comparingLong((Chain chain) -> chain.millis).reversed());
+
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        longestFirst.forEach(chain -> ordered.addAll(chain.methods));
+        logger.info("'{}' ordered longest first: estimated wall time {}ms on {} threads, {}ms in declared order",
+                context.getName(), makespan(longestFirst, threads), threads, makespan(chains, threads));
+        if (logger.isDebugEnabled()) {
+            longestFirst.forEach(chain -> logger.debug("  {}ms {}", chain.millis, chain));
+        }
+        return ordered;
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        addDuration(result.getMethod(), result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        addDuration(result.getMethod(), result);
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult result, ITestNGMethod testMethod) {
+        addConfigurationDuration(result, testMethod);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult result, ITestNGMethod testMethod) {
+        addConfigurationDuration(result, testMethod);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (!config.isScheduleEnabled() || spans.isEmpty()) {
+            return;
+        }
+        Map<String, Long> measured = new LinkedHashMap<>();
+        spans.forEach((method, span) -> measured.put(method, span[1] - span[0]));
+        TestDurationHistory history = TestDurationHistory.load(Paths.get(config.getScheduleHistoryFile()));
+        history.update(measured);
+        history.save();
+        spans.clear();
+    }
+
+    private void addConfigurationDuration(ITestResult result, ITestNGMethod testMethod) {
+        ITestNGMethod configuration = result.getMethod();
+        if (testMethod != null
+                && (configuration.isBeforeMethodConfiguration() || configuration.isAfterMethodConfiguration())) {
+            addDuration(testMethod, result);
+        }
+    }
+
+    private void addDuration(ITestNGMethod method, ITestResult result) {
+        long start = result.getStartMillis();
+        long end = Math.max(start, result.getEndMillis());
+        spans.merge(method.getQualifiedName(), new long[] {start, end},
+                (span, invocation) -> new long[] {Math.min(span[0], invocation[0]), Math.max(span[1], invocation[1])});
+    }
+
+    /**
+     * Group the methods linked by dependsOnMethods, each group in its original order
+     */
+    private static List<Chain> chain(List<IMethodInstance> methods) {
+        Map<String, Chain> chainByMethod = new LinkedHashMap<>();
+        List<Chain> chains = new ArrayList<>();
+        for (IMethodInstance method : methods) {
+            Chain chain = null;
+            for (String dependency : method.getMethod().getMethodsDependedUpon()) {
+                Chain dependencyChain = chainByMethod.get(dependency);
+                if (dependencyChain == null || dependencyChain == chain) {
+                    continue;
+                }
+                if (chain == null) {
+                    chain = dependencyChain;
+                } else {
+                    // The method joins two chains: merge the later one into the earlier
+                    Chain merged = chain;
+                    dependencyChain.methods.forEach(merged.methods::add);
+                    dependencyChain.methods.forEach(m -> chainByMethod.put(m.getMethod().getQualifiedName(), merged));
+                    chains.remove(dependencyChain);
+                }
+            }
+            if (chain == null) {
+                chain = new Chain();
+                chains.add(chain);
+            }
+            chain.methods.add(method);
+            chainByMethod.put(method.getMethod().getQualifiedName(), chain);
+        }
+        return chains;
+    }
+
+    /**
+     * Wall time of running the chains in the given order on a pool of threads, each chain on the
+     * thread that becomes free first
+     */
+    private static long makespan(List<Chain> chains, int threads) {
+        PriorityQueue<Long> threadEnds = new PriorityQueue<>();
+        for (int i = 0; i < threads; i++) {
+            threadEnds.add(0L);
+        }
+        long makespan = 0;
+        for (Chain chain : chains) {
+            long end = threadEnds.poll() + chain.millis;
+            threadEnds.add(end);
+            makespan = Math.max(makespan, end);
+        }
+        return makespan;
+    }
+
+    private static int threadCount(XmlTest test) {
+        return test.getParallel() != null && test.getParallel().isParallel() ? Math.max(1, test.getThreadCount()) : 1;
+    }
+
+    /**
+     * Test methods that run one after the other because of their dependencies
+     */
+    private static final class Chain {
+        private final List<IMethodInstance> methods = new ArrayList<>();
+        private long millis;
+
+        @Override
+        public String toString() {
+            List<String> names = new ArrayList<>();
+            methods.forEach(method -> names.add(method.getMethod().getMethodName()));
+            return String.join(" -> ", names);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.api.mock.MockEmployeeApiServer;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.RateLimiter;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.net.URI;
+
+/**
+ * Suite listener that runs the mock Employee API for the duration of the suite
+ * when the hermetic test profile is active.
+ * The client-side rate limit of the mock's host is removed, so that tests measure
+ * the throughput of the framework rather than the limiter; the mock simulates 429 itself.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class MockApiServerListener implements ISuiteListener {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(MockApiServerListener.class);
+    private MockEmployeeApiServer server;
+
+    @Override
+    public void onStart(ISuite suite) {
+        ConfigReader config = ConfigReader.getInstance();
+        if (!config.isHermeticProfile()) {
+            return;
+        }
+        logger.info("Hermetic profile active, starting mock Employee API");
+        server = new MockEmployeeApiServer(config);
+        server.start(config.getMockApiPort(), config.getMockApiThreads());
+        RateLimiter.removeLimit(URI.create(server.getBaseUrl()).getHost(), config);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (server != null) {
+            server.stop();
+            server = null;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * Suite listener that applies the parallel execution settings from configuration.
+ * Tests declared with a parallel mode in testng.xml get the configured thread count,
+ * or run sequentially when parallel execution is disabled.
+ * Parallel data providers use the same thread count, or a single thread when parallel execution is disabled,
+ * in one pool shared by all data-driven methods of the suite: every new worker thread would otherwise
+ * start its own Playwright and browser, kept until the end of the suite.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(ParallelExecutionListener.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        ConfigReader config = ConfigReader.getInstance();
+        boolean parallelEnabled = config.isParallelEnabled();
+        int threadCount = config.getParallelThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setDataProviderThreadCount(parallelEnabled ? threadCount : 1);
+            suite.setShareThreadPoolForDataProviders(true);
+            for (XmlTest test : suite.getTests()) {
+                if (test.getParallel() == null || !test.getParallel().isParallel()) {
+                    continue;
+                }
+                if (parallelEnabled) {
+                    test.setThreadCount(threadCount);
+                    logger.info("Test '{}' runs {} in parallel with {} threads",
+                            test.getName(), test.getParallel(), threadCount);
+                } else {
+                    test.setParallel(XmlSuite.ParallelMode.NONE);
+                    logger.info("Parallel execution disabled for test: {}", test.getName());
+                }
+            }
+        }
+    }
+}
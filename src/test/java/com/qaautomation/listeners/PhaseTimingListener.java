@@ -0,0 +1,110 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.PhaseTimer;
+import io.qameta.allure.Allure;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.nio.file.Paths;
+
+/**
+ * Test listener that attributes phase timings to the running test, times the test method
+ * itself, attaches the phase breakdown of each test to the Allure report and writes the
+ * phase summary of the suite as JSON and OpenMetrics text.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class PhaseTimingListener implements IInvokedMethodListener, IConfigurationListener, ISuiteListener {
+
+    private static final String TEST_PHASE = "test.method";
+
+    private final ThreadLocal<Long> testStart = new ThreadLocal<>();
+    // Result of the @BeforeMethod that began the timings of the invocation about to run on this thread
+    private final ThreadLocal<ITestResult> setupStartedBy = new ThreadLocal<>();
+
+    @Override
+    public void beforeConfiguration(ITestResult testResult, ITestNGMethod testMethod) {
+        if (!PhaseTimer.isEnabled()) {
+            return;
+        }
+        ITestNGMethod configuration = testResult.getMethod();
+        if (testMethod != null && configuration.isBeforeMethodConfiguration()) {
+            // Further @BeforeMethods of the same invocation keep adding to the timings begun by the first
+            if (setupStartedBy.get() == null) {
+                beginTest(testMethod);
+                setupStartedBy.set(testResult);
+            }
+        } else if (!configuration.isAfterMethodConfiguration()) {
+            // Class, test and suite level configuration does not belong to the last test of this thread
+            setupStartedBy.remove();
+            PhaseTimer.endTest();
+        }
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult testResult) {
+        endSetup(testResult);
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult testResult) {
+        endSetup(testResult);
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!PhaseTimer.isEnabled() || !method.isTestMethod()) {
+            return;
+        }
+        // Every invocation, including each data provider row and invocationCount repeat, gets fresh timings
+        if (setupStartedBy.get() == null) {
+            beginTest(testResult.getMethod());
+        }
+        setupStartedBy.remove();
+        testStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!PhaseTimer.isEnabled() || !method.isTestMethod()) {
+            return;
+        }
+        Long start = testStart.get();
+        testStart.remove();
+        if (start != null) {
+            PhaseTimer.record(TEST_PHASE, start);
+        }
+        // Teardown phases still count for this test; the attachment covers setup and the test itself
+        String breakdown = PhaseTimer.describeCurrentTest();
+        if (breakdown != null) {
+            Allure.addAttachment("Phase timings", "text/plain", breakdown);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        String dir = ConfigReader.getInstance().getPhaseTimingDir();
+        PhaseTimer.writeReports(Paths.get(dir, "phase-timings.json"), Paths.get(dir, "phase-timings.prom"));
+    }
+
+    /**
+     * Forget the pending setup when a @BeforeMethod fails or is skipped, as its test will not be invoked
+     * @param testResult Configuration result
+     */
+    private void endSetup(ITestResult testResult) {
+        if (testResult.getMethod().isBeforeMethodConfiguration()) {
+            setupStartedBy.remove();
+        }
+    }
+
+    private void beginTest(ITestNGMethod testMethod) {
+        PhaseTimer.beginTest(testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName());
+    }
+}
@@ -0,0 +1,197 @@
+package com.qaautomation.listeners;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.TestLogAppender;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import org.testng.IConfigurationListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test listener that captures the log of each test, from its first @BeforeMethod to its
+ * last @AfterMethod, in memory. A failed test gets its log written to a file under
+ * log.dir/tests and attached to the Allure report; a passed test only logs a one-line summary.
+ * Files are written by a background thread so the test thread never waits on disk.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class TestLogCaptureListener implements IInvokedMethodListener, IConfigurationListener, ISuiteListener {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(TestLogCaptureListener.class);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final ConfigReader config = ConfigReader.getInstance();
+    private final ThreadLocal<Capture> currentCapture = new ThreadLocal<>();
+    private final Map<String, Capture> openCaptures = new ConcurrentHashMap<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "test-log-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void beforeConfiguration(ITestResult testResult, ITestNGMethod testMethod) {
+        if (testMethod != null && testResult.getMethod().isBeforeMethodConfiguration()) {
+            ensureCapture(testMethod);
+        }
+    }
+
+    @Override
+    public void onConfigurationSuccess(ITestResult testResult, ITestNGMethod testMethod) {
+        afterConfiguration(testResult, testMethod, false);
+    }
+
+    @Override
+    public void onConfigurationFailure(ITestResult testResult, ITestNGMethod testMethod) {
+        afterConfiguration(testResult, testMethod, true);
+    }
+
+    @Override
+    public void onConfigurationSkip(ITestResult testResult, ITestNGMethod testMethod) {
+        afterConfiguration(testResult, testMethod, false);
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ensureCapture(testResult.getMethod());
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Capture capture = currentCapture.get();
+        if (!method.isTestMethod() || capture == null) {
+            return;
+        }
+        capture.status = testResult.getStatus();
+        capture.pendingAfterMethods = testResult.getMethod().getTestClass().getAfterTestMethods().length;
+        if (capture.pendingAfterMethods == 0) {
+            finish(capture, true);
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        for (Capture capture : new ArrayList<>(openCaptures.values())) {
+            finish(capture, false);
+        }
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Test logs still being written after 30 seconds");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void afterConfiguration(ITestResult testResult, ITestNGMethod testMethod, boolean failed) {
+        Capture capture = currentCapture.get();
+        if (capture == null || !testMethod.equals(capture.method)) {
+            return;
+        }
+        capture.configurationFailed |= failed;
+        if (testResult.getMethod().isAfterMethodConfiguration() && --capture.pendingAfterMethods <= 0) {
+            finish(capture, true);
+        }
+    }
+
+    private void ensureCapture(ITestNGMethod testMethod) {
+        if (!config.isLogCaptureEnabled()) {
+            return;
+        }
+        Capture capture = currentCapture.get();
+        if (capture != null && testMethod.equals(capture.method)) {
+            return;
+        }
+        if (capture != null) {
+            finish(capture, true);
+        }
+        String testId = testMethod.getRealClass().getSimpleName() + "." + testMethod.getMethodName()
+                + "-" + SEQUENCE.incrementAndGet();
+        capture = new Capture(testId, testMethod);
+        currentCapture.set(capture);
+        openCaptures.put(testId, capture);
+        TestLogAppender.startCapture(testId, config.getLogCaptureBufferSize());
+    }
+
+    private void finish(Capture capture, boolean onTestThread) {
+        if (openCaptures.remove(capture.testId) == null) {
+            return;
+        }
+        if (onTestThread) {
+            currentCapture.remove();
+        }
+        TestLogAppender.CapturedLog log = TestLogAppender.finishCapture(capture.testId);
+        long durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - capture.startNanos);
+        if (log == null) {
+            return;
+        }
+
+        if (capture.status != ITestResult.FAILURE && !capture.configurationFailed) {
+            logger.info("{} {} in {} ms ({} log events)", capture.status == ITestResult.SUCCESS ? "PASSED" : "SKIPPED",
+                    capture.testId, durationMillis, log.getEventCount());
+            return;
+        }
+
+        Path logFile = Paths.get(config.getLogDir(), "tests", capture.testId + ".log");
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String attachment = onTestThread && lifecycle.getCurrentTestCaseOrStep().isPresent()
+                ? lifecycle.prepareAttachment("Test log", "text/plain", ".log")
+                : null;
+        logger.error("FAILED {} in {} ms, log: {}", capture.testId, durationMillis, logFile);
+
+        // Formatting and I/O happen on the writer thread
+        writer.execute(() -> {
+            byte[] content = log.format().getBytes(StandardCharsets.UTF_8);
+            try {
+                Files.createDirectories(logFile.getParent());
+                Files.write(logFile, content);
+            } catch (IOException e) {
+                logger.warn("Could not write test log {}: {}", logFile, e.getMessage());
+            }
+            if (attachment != null) {
+                lifecycle.writeAttachment(attachment, new ByteArrayInputStream(content));
+            }
+        });
+    }
+
+    /**
+     * State of the capture of one test
+     */
+    private static final class Capture {
+        private final String testId;
+        private final ITestNGMethod method;
+        private final long startNanos = System.nanoTime();
+        private int status = ITestResult.SKIP;
+        private boolean configurationFailed;
+        private int pendingAfterMethods;
+
+        private Capture(String testId, ITestNGMethod method) {
+            this.testId = testId;
+            this.method = method;
+        }
+    }
+}
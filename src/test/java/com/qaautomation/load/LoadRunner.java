@@ -0,0 +1,253 @@
+package com.qaautomation.load;
+
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a flow under load and collects its latencies.
+ * In the open model iterations start at a fixed arrival rate, ramped up linearly, whether or not
+ * earlier iterations have finished; up to load.max.concurrency run at once and the rest queue.
+ * In the closed model load.users users run iterations back to back, started evenly over the ramp-up
+ * and paced so that together they reach load.target.rps (no pacing when it is 0).
+ * Every iteration has an intended start time from this schedule, and latencies are measured from it,
+ * so a slow service cannot hide its queueing delay by slowing down the load (coordinated omission).
+ * Only unpaced closed-model runs, which have no schedule, measure from the actual start.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class LoadRunner {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(LoadRunner.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String model;
+    private final double targetRps;
+    private final int users;
+    private final int maxConcurrency;
+    private final long rampUpNanos;
+    private final long durationNanos;
+
+    /**
+     * Constructor - reads the load settings
+     * @param config Configuration reader providing the load.* settings
+     */
+    public LoadRunner(ConfigReader config) {
+        this.model = config.getLoadModel();
+        this.targetRps = config.getLoadTargetRps();
+        this.users = config.getLoadUsers();
+        this.maxConcurrency = config.getLoadMaxConcurrency();
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(config.getLoadRampUpSeconds());
+        this.durationNanos = TimeUnit.SECONDS.toNanos(config.getLoadDurationSeconds());
+        if (ConfigReader.LOAD_MODEL_OPEN.equals(model) && targetRps <= 0) {
+            throw new IllegalArgumentException("The open load model needs load.target.rps > 0");
+        }
+    }
+
+    /**
+     * Run the load, blocking until every started iteration has finished
+     * @param iteration One iteration of the flow
+     * @return Statistics of the run
+     */
+    public LoadStatistics run(Iteration iteration) {
+        LoadStatistics statistics = new LoadStatistics(describe());
+        logger.info("Starting {} load: {}", model, describe());
+        long start = System.nanoTime();
+        if (ConfigReader.LOAD_MODEL_OPEN.equals(model)) {
+            runOpen(iteration, statistics, start);
+        } else {
+            runClosed(iteration, statistics, start);
+        }
+        statistics.setElapsedNanos(System.nanoTime() - start);
+        return statistics;
+    }
+
+    /**
+     * Get the settings of the run
+     * @return Settings by report key
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("model", model);
+        settings.put("target_rps", targetRps);
+        if (ConfigReader.LOAD_MODEL_OPEN.equals(model)) {
+            settings.put("max_concurrency", maxConcurrency);
+        } else {
+            settings.put("users", users);
+        }
+        settings.put("rampup_seconds", rampUpNanos / (double) NANOS_PER_SECOND);
+        settings.put("duration_seconds", durationNanos / (double) NANOS_PER_SECOND);
+        settings.put("coordinated_omission_corrected", ConfigReader.LOAD_MODEL_OPEN.equals(model) || targetRps > 0);
+        return settings;
+    }
+
+    private void runOpen(Iteration iteration, LoadStatistics statistics, long start) {
+        ExecutorService workers = Executors.newFixedThreadPool(maxConcurrency, threadFactory("load-worker-"));
+        long end = start + durationNanos;
+        try {
+            for (long number = 0; ; number++) {
+                long intendedStart = start + arrivalOffsetNanos(number);
+                if (intendedStart >= end) {
+                    break;
+                }
+                parkUntil(intendedStart);
+                workers.execute(new ScheduledIteration(iteration, number, intendedStart, statistics));
+            }
+        } finally {
+            awaitTermination(workers, statistics);
+        }
+    }
+
+    private void runClosed(Iteration iteration, LoadStatistics statistics, long start) {
+        ExecutorService userThreads = Executors.newFixedThreadPool(users, threadFactory("load-user-"));
+        long end = start + durationNanos;
+        long pacingNanos = targetRps > 0 ? Math.round(users * NANOS_PER_SECOND / targetRps) : 0;
+        AtomicLong iterationNumbers = new AtomicLong();
+        try {
+            for (int user = 0; user < users; user++) {
+                long userStart = start + rampUpNanos * user / users;
+                userThreads.execute(() -> {
+                    long intendedStart = userStart;
+                    parkUntil(intendedStart);
+                    while (intendedStart < end && !Thread.currentThread().isInterrupted()) {
+                        runIteration(iteration, iterationNumbers.getAndIncrement(),
+                                pacingNanos > 0 ? intendedStart : System.nanoTime(), statistics);
+                        if (pacingNanos > 0) {
+                            intendedStart += pacingNanos;
+                            parkUntil(intendedStart);
+                        } else {
+                            intendedStart = System.nanoTime();
+                        }
+                    }
+                });
+            }
+        } finally {
+            awaitTermination(userThreads, statistics);
+        }
+    }
+
+    private void runIteration(Iteration iteration, long number, long intendedStart, LoadStatistics statistics) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            success = iteration.run(number, intendedStart, statistics);
+        } catch (Exception e) {
+            logger.debug("Iteration {} failed", number, e);
+        } finally {
+            statistics.recordIteration(intendedStart, start, success);
+        }
+    }
+
+    /**
+     * Time from the start of the run at which an iteration should start, with the rate rising
+     * linearly to the target over the ramp-up
+     * @param number Zero-based iteration number
+     * @return Offset in nanoseconds
+     */
+    private long arrivalOffsetNanos(long number) {
+        double rampUpSeconds = rampUpNanos / (double) NANOS_PER_SECOND;
+        double rampUpIterations = targetRps * rampUpSeconds / 2;
+        double seconds = number < rampUpIterations
+                ? Math.sqrt(2 * rampUpSeconds * number / targetRps)
+                : rampUpSeconds + (number - rampUpIterations) / targetRps;
+        return Math.round(seconds * NANOS_PER_SECOND);
+    }
+
+    private void awaitTermination(ExecutorService executor, LoadStatistics statistics) {
+        executor.shutdown();
+        try {
+            // Queued iterations belong to the measurement, so give them as long again as the run itself
+            if (!executor.awaitTermination(durationNanos + rampUpNanos, TimeUnit.NANOSECONDS)) {
+                recordDropped(executor.shutdownNow(), statistics);
+            }
+        } catch (InterruptedException e) {
+            recordDropped(executor.shutdownNow(), statistics);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Record iterations that never started as failed, with their response time running from the
+     * intended start until now: they are the slowest tail, and leaving them out would hide it
+     */
+    private static void recordDropped(List<Runnable> queued, LoadStatistics statistics) {
+        long now = System.nanoTime();
+        int dropped = 0;
+        for (Runnable task : queued) {
+            if (task instanceof ScheduledIteration) {
+                statistics.recordIteration(((ScheduledIteration) task).intendedStart, now, false);
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            statistics.putReportEntry("dropped_iterations", dropped);
+            logger.warn("Load run did not drain in time, {} queued iterations dropped and counted as errors", dropped);
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Iteration of the open model waiting for a worker, with its intended start
+     */
+    private final class ScheduledIteration implements Runnable {
+        private final Iteration iteration;
+        private final long number;
+        private final long intendedStart;
+        private final LoadStatistics statistics;
+
+        private ScheduledIteration(Iteration iteration, long number, long intendedStart, LoadStatistics statistics) {
+            this.iteration = iteration;
+            this.number = number;
+            this.intendedStart = intendedStart;
+            this.statistics = statistics;
+        }
+
+        @Override
+        public void run() {
+            runIteration(iteration, number, intendedStart, statistics);
+        }
+    }
+
+    /**
+     * One iteration of the flow under load
+     */
+    @FunctionalInterface
+    public interface Iteration {
+
+        /**
+         * Run the flow once, recording its steps
+         * @param number Zero-based iteration number
+         * @param intendedStartNanos Time the iteration should have started according to the schedule;
+         *                           the first step's response time is measured from it
+         * @param statistics Statistics receiving the step latencies
+         * @return true if all steps succeeded
+         */
+        boolean run(long number, long intendedStartNanos, LoadStatistics statistics);
+    }
+}
@@ -0,0 +1,240 @@
+package com.qaautomation.load;
+
+import com.google.gson.GsonBuilder;
+import com.qaautomation.utils.LoggerUtil;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency histograms and error counts of a load run, per step and for whole flow iterations.
+ * Response time is measured from the moment a step should have started according to the load
+ * schedule, so time spent waiting behind slow requests is counted (coordinated omission correction);
+ * service time is measured from the moment the request was actually sent.
+ * Values are recorded in microseconds with three significant digits.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class LoadStatistics {
+
+    public static final String FLOW = "flow";
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(LoadStatistics.class);
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+    private final Map<String, Object> settings;
+    private volatile long elapsedNanos;
+
+    /**
+     * Constructor
+     * @param settings Settings of the run, included in the report
+     */
+    public LoadStatistics(Map<String, Object> settings) {
+        this.settings = new LinkedHashMap<>(settings);
+    }
+
+    /**
+     * Record a step that ends now
+     * @param step Step name
+     * @param intendedStartNanos Time the step should have started according to the schedule
+     * @param startNanos Time the step actually started
+     * @param success Whether the step succeeded
+     */
+    public void recordStep(String step, long intendedStartNanos, long startNanos, boolean success) {
+        long end = System.nanoTime();
+        StepStats stats = steps.computeIfAbsent(step, key -> new StepStats());
+        stats.responseTime.recordValue(TimeUnit.NANOSECONDS.toMicros(end - intendedStartNanos));
+        stats.serviceTime.recordValue(TimeUnit.NANOSECONDS.toMicros(end - startNanos));
+        if (!success) {
+            stats.errors.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record a flow iteration that ends now
+     * @param intendedStartNanos Time the iteration should have started according to the schedule
+     * @param startNanos Time the iteration actually started
+     * @param success Whether all steps succeeded
+     */
+    public void recordIteration(long intendedStartNanos, long startNanos, boolean success) {
+        recordStep(FLOW, intendedStartNanos, startNanos, success);
+    }
+
+    /**
+     * Add an entry to the report, e.g. resource usage measured at the end of the run
+     * @param key Report key
+     * @param value Value, serialized with Gson
+     */
+    public synchronized void putReportEntry(String key, Object value) {
+        settings.put(key, value);
+    }
+
+    /**
+     * Set the time the run took, load generation and draining of in-flight iterations included
+     * @param elapsedNanos Elapsed time in nanoseconds
+     */
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get number of flow iterations
+     * @return Iteration count
+     */
+    public long getIterations() {
+        StepStats flow = steps.get(FLOW);
+        return flow == null ? 0 : flow.responseTime.getTotalCount();
+    }
+
+    /**
+     * Get share of failed flow iterations
+     * @return Error percentage, 0 if nothing ran
+     */
+    public double getErrorPercent() {
+        StepStats flow = steps.get(FLOW);
+        long iterations = getIterations();
+        return iterations == 0 ? 0 : 100.0 * flow.errors.get() / iterations;
+    }
+
+    /**
+     * Get a copy of the response time histogram of a step
+     * @param step Step name, or {@link #FLOW}
+     * @return Histogram in microseconds, or null if the step was never recorded
+     */
+    public Histogram getResponseTimeHistogram(String step) {
+        StepStats stats = steps.get(step);
+        return stats == null ? null : stats.responseTime.copy();
+    }
+
+    /**
+     * Log a percentile table of all steps
+     */
+    public void logSummary() {
+        logger.info("Load run: {} iterations, {} errors, {} iterations/s", getIterations(),
+                String.format(Locale.ROOT, "%.2f%%", getErrorPercent()),
+                String.format(Locale.ROOT, "%.2f", achievedRate()));
+        logger.info(String.format(Locale.ROOT, "%-8s %8s %7s %9s %9s %9s %9s %9s %9s",
+                "step", "count", "errors", "p50", "p90", "p95", "p99", "p99.9", "max"));
+        orderedSteps().forEach((step, stats) -> {
+            Histogram histogram = stats.responseTime.copy();
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-8s %8d %7d", step,
+                    histogram.getTotalCount(), stats.errors.get()));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(Locale.ROOT, " %7.1fms", millis(histogram.getValueAtPercentile(percentile))));
+            }
+            line.append(String.format(Locale.ROOT, " %7.1fms", millis(histogram.getMaxValue())));
+            logger.info(line.toString());
+        });
+    }
+
+    /**
+     * Write load-report.json and a percentile distribution per step (load-&lt;step&gt;.hgrm, in milliseconds)
+     * @param directory Report directory
+     */
+    public void writeReport(Path directory) {
+        writeReport(directory, "load");
+    }
+
+    /**
+     * Write &lt;name&gt;-report.json and a percentile distribution per step (&lt;name&gt;-&lt;step&gt;.hgrm,
+     * in milliseconds)
+     * @param directory Report directory
+     * @param name Report name
+     */
+    public void writeReport(Path directory, String name) {
+        Map<String, Object> report;
+        synchronized (this) {
+            report = new LinkedHashMap<>(settings);
+        }
+        report.put("elapsed_seconds", elapsedNanos / 1_000_000_000.0);
+        report.put("iterations", getIterations());
+        report.put("error_percent", getErrorPercent());
+        report.put("achieved_rps", achievedRate());
+        Map<String, Object> stepReports = new LinkedHashMap<>();
+        orderedSteps().forEach((step, stats) -> {
+            Map<String, Object> stepReport = new LinkedHashMap<>();
+            stepReport.put("count", stats.responseTime.getTotalCount());
+            stepReport.put("errors", stats.errors.get());
+            stepReport.put("response_time_ms", summarize(stats.responseTime.copy()));
+            stepReport.put("service_time_ms", summarize(stats.serviceTime.copy()));
+            stepReports.put(step, stepReport);
+        });
+        report.put("steps", stepReports);
+
+        try {
+            Files.createDirectories(directory);
+            Path json = directory.resolve(name + "-report.json");
+            Files.write(json, new GsonBuilder().setPrettyPrinting().create().toJson(report)
+                    .getBytes(StandardCharsets.UTF_8));
+            for (Map.Entry<String, StepStats> entry : orderedSteps().entrySet()) {
+                try (PrintStream out = new PrintStream(
+                        Files.newOutputStream(directory.resolve(name + "-" + entry.getKey() + ".hgrm")),
+                        false, StandardCharsets.UTF_8.name())) {
+                    entry.getValue().responseTime.copy().outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            logger.info("Load report written to {}", json);
+        } catch (IOException e) {
+            logger.warn("Could not write load report: {}", e.getMessage());
+        }
+    }
+
+    private double achievedRate() {
+        return elapsedNanos == 0 ? 0 : getIterations() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Steps in recording order of the flow, the whole flow last
+     */
+    private Map<String, StepStats> orderedSteps() {
+        Map<String, StepStats> ordered = new LinkedHashMap<>();
+        steps.entrySet().stream()
+                .filter(entry -> !FLOW.equals(entry.getKey()))
+                .sorted(Map.Entry.comparingByValue((a, b) -> Long.compare(a.order, b.order)))
+                .forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        StepStats flow = steps.get(FLOW);
+        if (flow != null) {
+            ordered.put(FLOW, flow);
+        }
+        return ordered;
+    }
+
+    private static Map<String, Object> summarize(Histogram histogram) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        for (double percentile : PERCENTILES) {
+            summary.put("p" + (percentile % 1 == 0 ? String.valueOf((int) percentile) : String.valueOf(percentile)),
+                    millis(histogram.getValueAtPercentile(percentile)));
+        }
+        summary.put("max", millis(histogram.getMaxValue()));
+        summary.put("mean", millis(Math.round(histogram.getMean())));
+        return summary;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * Histograms and error count of one step
+     */
+    private static final class StepStats {
+        private static final AtomicLong NEXT_ORDER = new AtomicLong();
+        private final long order = NEXT_ORDER.getAndIncrement();
+        private final Histogram responseTime = new ConcurrentHistogram(3);
+        private final Histogram serviceTime = new ConcurrentHistogram(3);
+        private final AtomicLong errors = new AtomicLong();
+    }
+}
@@ -0,0 +1,398 @@
+package com.qaautomation.load;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import com.qaautomation.base.BaseTest;
+import com.qaautomation.ui.fixtures.PageFixtures;
+import com.qaautomation.utils.BrowserFactory;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a UI flow in many browser contexts at the same time for a set duration.
+ * load.ui.contexts contexts are opened evenly over the ramp-up, each driven by its own thread,
+ * so every context runs the flow concurrently with the others.
+ * Playwright objects are confined to the thread that created them, so every context thread has its
+ * own Playwright instance. On Chromium the threads share load.ui.browsers browsers, connecting to them
+ * over the DevTools protocol; other browsers cannot be shared that way and get one browser per context.
+ * On Chromium the CPU time and JS heap of each context are read through the DevTools
+ * Performance domain; the CPU time of all browser and driver processes is read from the operating system.
+ *
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class UiLoadRunner {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(UiLoadRunner.class);
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final ConfigReader config;
+    private final BrowserFactory browserFactory = new BrowserFactory();
+    private final int contexts;
+    private final boolean sharedBrowsers;
+    private final int browsers;
+    private final long rampUpNanos;
+    private final long durationNanos;
+    private final long thinkNanos;
+
+    /**
+     * Constructor - reads the load settings
+     * @param config Configuration reader providing the load.* and load.ui.* settings
+     */
+    public UiLoadRunner(ConfigReader config) {
+        this.config = config;
+        this.contexts = config.getLoadUiContexts();
+        this.sharedBrowsers = "chromium".equalsIgnoreCase(config.getBrowserType());
+        this.browsers = sharedBrowsers ? Math.max(1, Math.min(config.getLoadUiBrowsers(), contexts)) : contexts;
+        this.rampUpNanos = TimeUnit.SECONDS.toNanos(config.getLoadRampUpSeconds());
+        this.durationNanos = TimeUnit.SECONDS.toNanos(config.getLoadDurationSeconds());
+        this.thinkNanos = TimeUnit.MILLISECONDS.toNanos(config.getLoadUiThinkMillis());
+        if (!sharedBrowsers && config.getLoadUiBrowsers() != contexts) {
+            logger.warn("{} browsers cannot be shared between threads, using one browser per context",
+                    config.getBrowserType());
+        }
+    }
+
+    /**
+     * Run the flow in all contexts, blocking until the duration has passed and every context is closed
+     * @param iteration One iteration of the flow in a page
+     * @return Statistics of the run, with the resource usage of every context
+     */
+    public LoadStatistics run(Iteration iteration) {
+        LoadStatistics statistics = new LoadStatistics(describe());
+        logger.info("Starting UI load: {}", describe());
+        List<Map<String, Object>> contextReports = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService contextThreads = Executors.newFixedThreadPool(contexts, runnable -> {
+            Thread thread = new Thread(runnable, "ui-load-context-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<BrowserHost> hosts = new ArrayList<>();
+        // Browser processes are gone once closed, so their CPU time is read when all contexts have finished the flow
+        long cpuAtStart = childProcessCpuNanos();
+        AtomicLong cpuAtEnd = new AtomicLong(cpuAtStart);
+        CyclicBarrier beforeClose = new CyclicBarrier(contexts, () -> cpuAtEnd.set(childProcessCpuNanos()));
+        AtomicLong iterationNumbers = new AtomicLong();
+        try {
+            if (sharedBrowsers) {
+                for (int browser = 0; browser < browsers; browser++) {
+                    hosts.add(new BrowserHost());
+                }
+            }
+            long start = System.nanoTime();
+            List<Future<?>> workers = new ArrayList<>();
+            for (int context = 0; context < contexts; context++) {
+                int contextId = context;
+                // Contexts are dealt out round-robin, so every browser gets its share early in the ramp-up
+                String endpoint = sharedBrowsers ? hosts.get(contextId % browsers).endpoint : null;
+                workers.add(contextThreads.submit(() -> runContext(contextId, endpoint, iteration, statistics,
+                        iterationNumbers, contextReports, beforeClose, start)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+            statistics.setElapsedNanos(System.nanoTime() - start);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the UI load run", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("UI load run failed", e.getCause());
+        } finally {
+            contextThreads.shutdownNow();
+            hosts.forEach(BrowserHost::close);
+        }
+
+        List<Map<String, Object>> contextsByNumber = new ArrayList<>(contextReports);
+        contextsByNumber.sort(Comparator.comparingInt(report -> (Integer) report.get("context")));
+        statistics.putReportEntry("contexts", contextsByNumber);
+        statistics.putReportEntry("browser_process_cpu_seconds",
+                (cpuAtEnd.get() - cpuAtStart) / (double) NANOS_PER_SECOND);
+        return statistics;
+    }
+
+    /**
+     * Get the settings of the run
+     * @return Settings by report key
+     */
+    public Map<String, Object> describe() {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        settings.put("browser", config.getBrowserType());
+        settings.put("execution_profile", config.getExecutionProfile().name().toLowerCase(Locale.ROOT));
+        settings.put("contexts", contexts);
+        settings.put("browsers", browsers);
+        settings.put("think_ms", thinkNanos / 1_000_000);
+        settings.put("rampup_seconds", rampUpNanos / (double) NANOS_PER_SECOND);
+        settings.put("duration_seconds", durationNanos / (double) NANOS_PER_SECOND);
+        return settings;
+    }
+
+    /**
+     * Open one context when the ramp-up reaches it and run the flow in it until the end of the run
+     * @param endpoint DevTools endpoint of the shared browser, null to launch a browser of its own
+     */
+    private void runContext(int contextId, String endpoint, Iteration iteration, LoadStatistics statistics,
+                            AtomicLong iterationNumbers, List<Map<String, Object>> contextReports,
+                            CyclicBarrier beforeClose, long start) {
+        long end = start + durationNanos;
+        Playwright playwright = null;
+        Session session = null;
+        try {
+            parkUntil(Math.min(openTime(contextId, start), end));
+            if (System.nanoTime() >= end) {
+                return;
+            }
+            playwright = Playwright.create();
+            Browser browser = endpoint != null
+                    ? playwright.chromium().connectOverCDP(endpoint)
+                    : browserFactory.createBrowser(playwright, config.getBrowserType());
+            session = openSession(browser, contextId);
+            while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                runIteration(session, iteration, iterationNumbers.getAndIncrement(), statistics);
+                if (thinkNanos > 0) {
+                    parkUntil(Math.min(System.nanoTime() + thinkNanos, end));
+                }
+            }
+        } finally {
+            if (session != null) {
+                contextReports.add(session.report());
+            }
+            awaitQuietly(beforeClose);
+            if (session != null) {
+                session.close();
+            }
+            if (playwright != null) {
+                // Only disconnects from a shared browser; a browser of its own is closed with it
+                playwright.close();
+            }
+        }
+    }
+
+    private long openTime(int contextId, long start) {
+        return start + rampUpNanos * contextId / contexts;
+    }
+
+    private Session openSession(Browser browser, int contextId) {
+        long start = System.nanoTime();
+        BrowserContext context = browserFactory.createBrowserContext(browser,
+                new Browser.NewContextOptions().setLocale("en-US"));
+        if (config.isUiFixtureMode()) {
+            new PageFixtures(config.getBaseUrl(), config.getUiFixtureDir()).install(context);
+        }
+        Page page = context.newPage();
+        page.addLocatorHandler(page.locator(BaseTest.CONSENT_BUTTON).first(), Locator::click);
+        Session session = new Session(contextId, context, page);
+        logger.info("Context {} opened in {}ms", contextId, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return session;
+    }
+
+    private void runIteration(Session session, Iteration iteration, long number, LoadStatistics statistics) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            success = iteration.run(session.page, number, statistics);
+        } catch (RuntimeException e) {
+            logger.debug("Iteration {} in context {} failed", number, session.id, e);
+        } finally {
+            statistics.recordIteration(start, start, success);
+            session.iterations++;
+            if (!success) {
+                session.errors++;
+            }
+        }
+    }
+
+    /**
+     * CPU time used so far by all processes started from this JVM: Playwright drivers and browsers
+     * @return CPU time in nanoseconds
+     */
+    private static long childProcessCpuNanos() {
+        return ProcessHandle.current().descendants()
+                .map(process -> process.info().totalCpuDuration().orElse(Duration.ZERO))
+                .mapToLong(Duration::toNanos)
+                .sum();
+    }
+
+    private CDPSession openDevTools(BrowserContext context, Page page) {
+        if (!"chromium".equalsIgnoreCase(config.getBrowserType())) {
+            return null;
+        }
+        try {
+            CDPSession session = context.newCDPSession(page);
+            session.send("Performance.enable");
+            return session;
+        } catch (RuntimeException e) {
+            logger.warn("DevTools metrics unavailable: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static void awaitQuietly(CyclicBarrier barrier) {
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (BrokenBarrierException e) {
+            logger.debug("Browser threads did not all reach the end of the run");
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    /**
+     * Chromium browser shared by context threads, which connect to it through its DevTools endpoint.
+     * Launched and closed by the thread running the load.
+     */
+    private final class BrowserHost {
+        private final Playwright playwright;
+        private final String endpoint;
+
+        private BrowserHost() {
+            int port = freePort();
+            this.playwright = Playwright.create();
+            try {
+                browserFactory.createBrowser(playwright, config.getBrowserType(),
+                        Collections.singletonList("--remote-debugging-port=" + port));
+            } catch (RuntimeException e) {
+                playwright.close();
+                throw e;
+            }
+            this.endpoint = "http://127.0.0.1:" + port;
+        }
+
+        private void close() {
+            try {
+                playwright.close();
+            } catch (RuntimeException e) {
+                logger.warn("Could not close browser at {}: {}", endpoint, e.getMessage());
+            }
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No free port for the browser DevTools endpoint", e);
+        }
+    }
+
+    /**
+     * One open browser context with its page and DevTools session
+     */
+    private final class Session {
+        private final int id;
+        private final BrowserContext context;
+        private final Page page;
+        private final CDPSession devTools;
+        private final Map<String, Double> metricsAtStart;
+        private long iterations;
+        private long errors;
+
+        private Session(int id, BrowserContext context, Page page) {
+            this.id = id;
+            this.context = context;
+            this.page = page;
+            this.devTools = openDevTools(context, page);
+            this.metricsAtStart = readMetrics();
+        }
+
+        /**
+         * Resource usage of the context since it was opened
+         */
+        private Map<String, Object> report() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("context", id);
+            report.put("iterations", iterations);
+            report.put("errors", errors);
+            Map<String, Double> metrics = readMetrics();
+            if (!metrics.isEmpty()) {
+                double taskSeconds = metrics.getOrDefault("TaskDuration", 0.0)
+                        - metricsAtStart.getOrDefault("TaskDuration", 0.0);
+                double scriptSeconds = metrics.getOrDefault("ScriptDuration", 0.0)
+                        - metricsAtStart.getOrDefault("ScriptDuration", 0.0);
+                report.put("cpu_task_seconds", taskSeconds);
+                report.put("cpu_script_seconds", scriptSeconds);
+                report.put("cpu_ms_per_iteration", iterations == 0 ? 0 : taskSeconds * 1000 / iterations);
+                report.put("js_heap_used_mb", metrics.getOrDefault("JSHeapUsedSize", 0.0) / (1024 * 1024));
+                report.put("js_heap_total_mb", metrics.getOrDefault("JSHeapTotalSize", 0.0) / (1024 * 1024));
+                report.put("dom_nodes", metrics.getOrDefault("Nodes", 0.0).longValue());
+            }
+            return report;
+        }
+
+        private Map<String, Double> readMetrics() {
+            Map<String, Double> metrics = new LinkedHashMap<>();
+            if (devTools == null) {
+                return metrics;
+            }
+            try {
+                JsonObject result = devTools.send("Performance.getMetrics");
+                for (JsonElement metric : result.getAsJsonArray("metrics")) {
+                    JsonObject entry = metric.getAsJsonObject();
+                    metrics.put(entry.get("name").getAsString(), entry.get("value").getAsDouble());
+                }
+            } catch (RuntimeException e) {
+                logger.debug("Could not read performance metrics of context {}: {}", id, e.getMessage());
+            }
+            return metrics;
+        }
+
+        private void close() {
+            try {
+                context.close();
+            } catch (RuntimeException e) {
+                logger.warn("Could not close context {}: {}", id, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * One iteration of the flow in a page
+     */
+    @FunctionalInterface
+    public interface Iteration {
+
+        /**
+         * Run the flow once, recording its steps
+         * @param page Page of the context running the iteration
+         * @param number Iteration number, unique within the run
+         * @param statistics Statistics receiving the step latencies
+         * @return true if all steps succeeded
+         */
+        boolean run(Page page, long number, LoadStatistics statistics);
+    }
+}
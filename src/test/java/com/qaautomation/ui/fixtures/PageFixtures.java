@@ -0,0 +1,114 @@
+package com.qaautomation.ui.fixtures;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+import com.qaautomation.utils.LoggerUtil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves the application under test from files bundled with the test resources.
+ * Context-level routes answer the page, its scripts and the submit endpoint from memory,
+ * and every other request is aborted, so a fixture run never touches the network.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class PageFixtures {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(PageFixtures.class);
+    private static final Map<String, byte[]> FILE_CACHE = new ConcurrentHashMap<>();
+
+    private static final String INDEX_FILE = "index.html";
+    private static final String SUBMIT_PATH = "submit";
+    private static final String SUCCESS_FILE = "success.html";
+
+    private final String baseUrl;
+    private final String fixtureDir;
+
+    /**
+     * Constructor
+     * @param baseUrl Base URL of the application, as configured in app.base.url
+     * @param fixtureDir Classpath directory holding the fixture files
+     */
+    public PageFixtures(String baseUrl, String fixtureDir) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl : baseUrl + "/";
+        this.fixtureDir = fixtureDir.endsWith("/") ? fixtureDir : fixtureDir + "/";
+    }
+
+    /**
+     * Install the fixture routes on a browser context
+     * @param context Browser context
+     * @return Stub of the submit endpoint for this context
+     */
+    public SubmitEndpointStub install(BrowserContext context) {
+        SubmitEndpointStub submitStub = new SubmitEndpointStub(load(SUCCESS_FILE));
+
+        // Routes registered later take precedence, so the catch-all abort goes first
+        context.route("**/*", route -> {
+            logger.debug("Fixture mode, aborting request: {}", route.request().url());
+            route.abort();
+        });
+        context.route(baseUrl + "**", route -> serve(route, submitStub));
+        logger.info("Serving {} from fixtures: {}", baseUrl, fixtureDir);
+        return submitStub;
+    }
+
+    private void serve(Route route, SubmitEndpointStub submitStub) {
+        String path = URI.create(route.request().url()).getPath();
+        String basePath = URI.create(baseUrl).getPath();
+        String relativePath = path.length() > basePath.length() ? path.substring(basePath.length()) : "";
+
+        if (SUBMIT_PATH.equals(relativePath)) {
+            submitStub.recordSubmission(route.request().postData());
+            route.fulfill(new Route.FulfillOptions()
+                    .setStatus(submitStub.getStatus())
+                    .setContentType(submitStub.getContentType())
+                    .setBodyBytes(submitStub.getBody()));
+            return;
+        }
+
+        String file = relativePath.isEmpty() ? INDEX_FILE : relativePath;
+        byte[] body = load(file);
+        if (body == null) {
+            route.fulfill(new Route.FulfillOptions().setStatus(404).setBody("Not Found"));
+            return;
+        }
+        route.fulfill(new Route.FulfillOptions()
+                .setStatus(200)
+                .setContentType(contentType(file))
+                .setBodyBytes(body));
+    }
+
+    private byte[] load(String file) {
+        String resource = fixtureDir + file;
+        byte[] cached = FILE_CACHE.get(resource);
+        if (cached != null) {
+            return cached;
+        }
+        try (InputStream input = PageFixtures.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                return null;
+            }
+            byte[] content = input.readAllBytes();
+            FILE_CACHE.put(resource, content);
+            return content;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to read fixture: " + resource, e);
+        }
+    }
+
+    private static String contentType(String file) {
+        if (file.endsWith(".js")) {
+            return "application/javascript; charset=utf-8";
+        }
+        if (file.endsWith(".css")) {
+            return "text/css; charset=utf-8";
+        }
+        return "text/html; charset=utf-8";
+    }
+}
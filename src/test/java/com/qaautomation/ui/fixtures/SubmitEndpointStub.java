@@ -0,0 +1,79 @@
+package com.qaautomation.ui.fixtures;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Programmable stub of the form submit endpoint used in fixture mode.
+ * Records every submitted form body and answers with the configured response,
+ * by default the bundled success page.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class SubmitEndpointStub {
+
+    private final List<String> submissions = Collections.synchronizedList(new ArrayList<>());
+    private volatile int status;
+    private volatile String contentType;
+    private volatile byte[] body;
+    private final byte[] defaultBody;
+
+    /**
+     * Constructor
+     * @param defaultBody Body returned until another response is programmed
+     */
+    public SubmitEndpointStub(byte[] defaultBody) {
+        this.defaultBody = defaultBody;
+        reset();
+    }
+
+    /**
+     * Program the response of the submit endpoint
+     * @param status HTTP status code
+     * @param contentType Content type of the body
+     * @param body Response body
+     */
+    public void respondWith(int status, String contentType, String body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.body = body.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Restore the default response and forget recorded submissions
+     */
+    public void reset() {
+        this.status = 200;
+        this.contentType = "text/html; charset=utf-8";
+        this.body = defaultBody;
+        submissions.clear();
+    }
+
+    /**
+     * Get the form bodies submitted so far
+     * @return URL-encoded form bodies in submission order
+     */
+    public List<String> getSubmissions() {
+        synchronized (submissions) {
+            return new ArrayList<>(submissions);
+        }
+    }
+
+    void recordSubmission(String formBody) {
+        submissions.add(formBody == null ? "" : formBody);
+    }
+
+    int getStatus() {
+        return status;
+    }
+
+    String getContentType() {
+        return contentType;
+    }
+
+    byte[] getBody() {
+        return body;
+    }
+}
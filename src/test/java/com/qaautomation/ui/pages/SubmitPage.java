@@ -5,7 +5,9 @@ import com.microsoft.playwright.Page;
 import com.qaautomation.utils.LoggerUtil;
 import com.qaautomation.utils.WaitHelper;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object Model for Login Page
@@ -28,12 +30,51 @@ public class SubmitPage {
     private static final String ERROR_MESSAGE = "span[id*='error-message']";
     private static final String SUCCESS_MESSAGE = ".success-message";
     
+    // Page name used for wait timeouts (wait.timeout.submit.*) and wait telemetry
+    private static final String PAGE_NAME = "submit";
+    
+    // Sets every field and fires the events a user would, in a single round trip to the browser.
+    // The native value setter keeps frameworks that track input values in sync.
+    private static final String FILL_FORM_SCRIPT = "fields => {\n"
+            + "  const missing = [];\n"
+            + "  for (const [selector, value] of Object.entries(fields)) {\n"
+            + "    const element = document.querySelector(selector);\n"
+            + "    if (!element) { missing.push(selector); continue; }\n"
+            + "    Object.getOwnPropertyDescriptor(Object.getPrototypeOf(element), 'value').set.call(element, value);\n"
+            + "    element.dispatchEvent(new Event('input', { bubbles: true }));\n"
+            + "    element.dispatchEvent(new Event('change', { bubbles: true }));\n"
+            + "    element.dispatchEvent(new FocusEvent('blur'));\n"
+            + "    element.dispatchEvent(new FocusEvent('focusout', { bubbles: true }));\n"
+            + "  }\n"
+            + "  return missing;\n"
+            + "}";
+    
+    // Same visibility rule as Playwright: a non-empty box and not visibility:hidden
+    private static final String VISIBLE_TEXTS_SCRIPT = "elements => elements"
+            + ".filter(e => e.getClientRects().length > 0 && getComputedStyle(e).visibility !== 'hidden')"
+            + ".map(e => e.textContent.trim())";
+    
+    private final Locator usernameInput;
+    private final Locator emailInput;
+    private final Locator commentInput;
+    private final Locator submitButton;
+    private final Locator emailErrorMessage;
+    private final Locator errorMessages;
+    private final Locator successMessage;
+    
     /**
      * Constructor
      * @param page Playwright page instance
      */
     public SubmitPage(Page page) {
         this.page = page;
+        this.usernameInput = page.locator(USERNAME_INPUT).first();
+        this.emailInput = page.locator(EMAIL_INPUT).first();
+        this.commentInput = page.locator(COMMENT_INPUT).first();
+        this.submitButton = page.locator(SUBMIT_BUTTON).first();
+        this.emailErrorMessage = page.locator(EMAIL_ERROR_MESSAGE).first();
+        this.errorMessages = page.locator(ERROR_MESSAGE);
+        this.successMessage = page.locator(SUCCESS_MESSAGE).first();
         logger.info("SubmitPage initialized");
     }
     
@@ -42,9 +83,9 @@ public class SubmitPage {
      * @param username Username to enter
      */
     public void enterUsername(String username) {
-        logger.info("Entering username: " + username);
-        WaitHelper.waitForElementVisible(page, USERNAME_INPUT);
-        page.fill(USERNAME_INPUT, username);
+        logger.info("Entering username: {}", username);
+        // fill() waits for the field to be visible and editable by itself
+        usernameInput.fill(username, fillOptions("username"));
         logger.debug("Username entered successfully");
     }
     
@@ -54,8 +95,7 @@ public class SubmitPage {
      */
     public void enterEmailAdress(String email) {
         logger.info("Entering email");
-        WaitHelper.waitForElementVisible(page, EMAIL_INPUT);
-        page.fill(EMAIL_INPUT, email);
+        emailInput.fill(email, fillOptions("email"));
         logger.debug("Email entered successfully");
     }
 
@@ -65,9 +105,7 @@ public class SubmitPage {
      */
     public void enterComment(String comment) {
         logger.info("Entering comment");
-       // page.locator(COMMENT_INPUT).scrollIntoViewIfNeeded();
-        WaitHelper.waitForElementVisible(page, COMMENT_INPUT);
-        page.fill(COMMENT_INPUT, comment);
+        commentInput.fill(comment, fillOptions("comment"));
         logger.debug("Comment entered successfully");
     }
     
@@ -76,26 +114,35 @@ public class SubmitPage {
      */
     public void clickSubmitButton() {
         logger.info("Clicking submit button");
-        WaitHelper.waitForElementVisible(page, SUBMIT_BUTTON);
-        page.click(SUBMIT_BUTTON);
+        submitButton.click(new Locator.ClickOptions().setTimeout(WaitHelper.getTimeout(PAGE_NAME, "submitButton")));
         logger.debug("Submit button clicked");
     }
     /**
-     * Perform submit with credentials
+     * Fill all required fields in one batched operation: one wait for the form, then one script
+     * that sets the values and fires input, change and blur events per field
      * @param username Username
      * @param email Email
+     * @param comment Comment
      */
     public void fillRequiredFields(String username, String email, String comment) {
         logger.info("Performing fill the required fields");
-        enterUsername(username);
-        enterEmailAdress(email);
-        enterComment(comment);
+        WaitHelper.waitForVisible(usernameInput, PAGE_NAME, "username");
+        
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(USERNAME_INPUT, username);
+        fields.put(EMAIL_INPUT, email);
+        fields.put(COMMENT_INPUT, comment);
+        Object missing = page.evaluate(FILL_FORM_SCRIPT, fields);
+        if (missing instanceof List && !((List<?>) missing).isEmpty()) {
+            throw new RuntimeException("Form fields not found on submit page: " + missing);
+        }
         logger.info("Fill completed");
     }
     /**
      * Perform submit with credentials
      * @param username Username
      * @param email Email
+     * @param comment Comment
      */
     public void submit(String username, String email, String comment) {
         logger.info("Performing submit");
@@ -111,11 +158,20 @@ public class SubmitPage {
      */
     public String getErrorMessage() {
         logger.info("Getting error message");
-        String errorText = page.textContent(EMAIL_ERROR_MESSAGE);
-        logger.debug("Error message: " + errorText);
+        String errorText = emailErrorMessage.textContent();
+        logger.debug("Error message: {}", errorText);
         return errorText;
     }
     
+    /**
+     * Get texts of all visible error messages, read in one round trip
+     * @return Visible error message texts
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> getVisibleErrorMessages() {
+        return (List<String>) errorMessages.evaluateAll(VISIBLE_TEXTS_SCRIPT);
+    }
+    
     /**
      * Check if error message is displayed
      * @return true if error message is visible, false otherwise
@@ -123,7 +179,7 @@ public class SubmitPage {
     public boolean isErrorMessageDisplayed() {
         logger.info("Checking if error message is displayed");
         try {
-            WaitHelper.waitForElementVisible(page, EMAIL_ERROR_MESSAGE);
+            WaitHelper.waitForVisible(emailErrorMessage, PAGE_NAME, "emailError");
             logger.debug("Error message is displayed");
             return true;
         } catch (Exception e) {
@@ -132,14 +188,30 @@ public class SubmitPage {
         }
     }
 
-    public boolean isAllErrorMessageHidden(){
-        List<Locator> errorMessages = page.locator(ERROR_MESSAGE).all();
-        for (Locator message : errorMessages) {
-            if(message.isVisible()){
-                return false;
-            }
+    /**
+     * Check if the success message shown after a submit is displayed
+     * @return true if the success message is visible, false otherwise
+     */
+    public boolean isSuccessMessageDisplayed() {
+        try {
+            WaitHelper.waitForVisible(successMessage, PAGE_NAME, "successMessage");
+            return true;
+        } catch (Exception e) {
+            logger.debug("Success message is not displayed");
+            return false;
         }
-        return true;
+    }
+
+    /**
+     * Check that no error message is visible, reading all of them in one round trip
+     * @return true if every error message is hidden
+     */
+    public boolean isAllErrorMessageHidden(){
+        return getVisibleErrorMessages().isEmpty();
+    }
+    
+    private Locator.FillOptions fillOptions(String name) {
+        return new Locator.FillOptions().setTimeout(WaitHelper.getTimeout(PAGE_NAME, name));
     }
 
 }
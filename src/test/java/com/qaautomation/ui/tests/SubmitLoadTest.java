@@ -0,0 +1,79 @@
+package com.qaautomation.ui.tests;
+
+import com.microsoft.playwright.Page;
+import com.qaautomation.load.LoadStatistics;
+import com.qaautomation.load.UiLoadRunner;
+import com.qaautomation.ui.pages.SubmitPage;
+import com.qaautomation.utils.ConfigReader;
+import com.qaautomation.utils.LoggerUtil;
+import com.qaautomation.utils.WaitHelper;
+import org.testng.annotations.Test;
+
+import java.nio.file.Paths;
+import java.util.function.BooleanSupplier;
+
+import static org.testng.Assert.assertTrue;
+
+/**
+ * UI load scenario: runs the SubmitPage submit flow in load.ui.contexts concurrent browser contexts
+ * for load.duration.seconds and reports throughput, per-step latency and the cost of each context.
+ * Run with testng-ui-load.xml.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class SubmitLoadTest {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(SubmitLoadTest.class);
+    private final ConfigReader configReader = ConfigReader.getInstance();
+
+    /**
+     * Run the submit flow in concurrent browser contexts and check its error rate
+     */
+    @Test(description = "Run the submit flow in concurrent browser contexts", groups = { "load" })
+    public void testSubmitUnderLoad() {
+        LoadStatistics statistics = new UiLoadRunner(configReader).run(this::runSubmit);
+        statistics.logSummary();
+        statistics.writeReport(Paths.get(configReader.getLoadReportDir()), "ui-load");
+        
+        assertTrue(statistics.getIterations() > 0, "Load run should complete at least one iteration");
+        assertTrue(statistics.getErrorPercent() <= configReader.getLoadMaxErrorPercent(),
+                "Error rate should be at most " + configReader.getLoadMaxErrorPercent() + "%; Result: "
+                        + statistics.getErrorPercent() + "%");
+    }
+
+    /**
+     * The steps of SubmitPage.submit(), each timed on its own, followed by a check that the success page is shown
+     */
+    private boolean runSubmit(Page page, long number, LoadStatistics statistics) {
+        SubmitPage submitPage = new SubmitPage(page);
+        return step(statistics, "navigate", () -> {
+                    page.navigate(configReader.getBaseUrl());
+                    return true;
+                })
+                && step(statistics, "fill", () -> {
+                    submitPage.fillRequiredFields("Load User " + number, "loaduser" + number + "@example.com",
+                            "Load comment " + number);
+                    return true;
+                })
+                && step(statistics, "submit", () -> {
+                    submitPage.clickSubmitButton();
+                    WaitHelper.waitForNavigation(page);
+                    return true;
+                })
+                && step(statistics, "verify", submitPage::isSuccessMessageDisplayed);
+    }
+
+    private static boolean step(LoadStatistics statistics, String step, BooleanSupplier action) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            success = action.getAsBoolean();
+        } catch (RuntimeException e) {
+            logger.debug("Step {} failed: {}", step, e.getMessage());
+        } finally {
+            statistics.recordStep(step, start, start, success);
+        }
+        return success;
+    }
+}
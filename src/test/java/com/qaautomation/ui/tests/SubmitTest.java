@@ -1,6 +1,7 @@
 package com.qaautomation.ui.tests;
 
 import com.qaautomation.base.BaseTest;
+import com.qaautomation.data.TestDataProviders;
 import com.qaautomation.ui.pages.SubmitPage;
 import org.testng.annotations.Test;
 
@@ -24,7 +25,7 @@ public class SubmitTest extends BaseTest {
         logger.info("Starting test: testSuccessfulSubmit");
         navigateTo(configReader.getBaseUrl());
         // Create SubmitPage object
-        SubmitPage submitPage = new SubmitPage(page);
+        SubmitPage submitPage = new SubmitPage(getPage());
         
         // Perform submit
         submitPage.submit("Test User","testuser@example.com","Test comment");
@@ -47,7 +48,7 @@ public class SubmitTest extends BaseTest {
         navigateTo(configReader.getBaseUrl());
 
         // Create SubmitPage object
-        SubmitPage submitPage = new SubmitPage(page);
+        SubmitPage submitPage = new SubmitPage(getPage());
         
         // Perform submit with invalid credentials
         submitPage.fillRequiredFields("Test User","testuser@com","Test comment");
@@ -55,9 +56,37 @@ public class SubmitTest extends BaseTest {
         // Assert - verify error message is displayed
         assertTrue(submitPage.isErrorMessageDisplayed(), "Error message should be displayed for invalid credentials");
         String errorMessage = submitPage.getErrorMessage();
-        logger.info("Error message displayed: " + errorMessage);
+        logger.info("Error message displayed: {}", errorMessage);
         assertTrue(errorMessage.contains(expErrorMsg), "Expected error message not found: " + expErrorMsg);
         
         logger.info("Test passed: testSubmitWithInvalidEmail");
     }
+    
+    /**
+     * Test submit with invalid email addresses of the invalidEmails data set
+     * @param email Invalid email address
+     */
+    @Test(description = "Test submit with invalid email addresses from a data set",
+            dataProvider = TestDataProviders.INVALID_EMAILS, dataProviderClass = TestDataProviders.class,
+            groups = { "data-driven" })
+    public void testSubmitWithInvalidEmailFromData(String email) {
+        String expErrorMsg = "Please enter a valid email address";
+        logger.info("Starting test: testSubmitWithInvalidEmailFromData with email: {}", email);
+
+        navigateTo(configReader.getBaseUrl());
+
+        // Create SubmitPage object
+        SubmitPage submitPage = new SubmitPage(getPage());
+        
+        // Perform submit with invalid credentials
+        submitPage.fillRequiredFields("Test User", email, "Test comment");
+
+        // Assert - verify error message is displayed
+        assertTrue(submitPage.isErrorMessageDisplayed(), "Error message should be displayed for invalid email: " + email);
+        String errorMessage = submitPage.getErrorMessage();
+        logger.info("Error message displayed: {}", errorMessage);
+        assertTrue(errorMessage.contains(expErrorMsg), "Expected error message not found: " + expErrorMsg);
+        
+        logger.info("Test passed: testSubmitWithInvalidEmailFromData");
+    }
 }
@@ -0,0 +1,179 @@
+package com.qaautomation.utils;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * REST-Assured filter that keeps the API calls of the running test in a bounded per-thread buffer
+ * instead of logging them. Calls are only formatted when the buffer is dumped, normally for a failed test.
+ * Asynchronous calls are recorded into the buffer of the thread that sent them.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class ApiCallRecorder implements Filter {
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(Buffer::new);
+
+    private final int bufferSize;
+    private final int maxBodyBytes;
+
+    /**
+     * Constructor
+     * @param bufferSize Maximum number of calls kept per test, oldest calls are dropped first
+     * @param maxBodyBytes Maximum number of body bytes kept per request and response
+     */
+    public ApiCallRecorder(int bufferSize, int maxBodyBytes) {
+        this.bufferSize = bufferSize;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext context) {
+        Response response = context.next(requestSpec, responseSpec);
+        Object requestBody = requestSpec.getBody();
+        record(BUFFER.get(), requestSpec.getMethod(), requestSpec.getURI(), requestSpec.getHeaders(),
+                requestBody == null ? null : requestBody.toString(), response);
+        return response;
+    }
+
+    /**
+     * Get the buffer of the test running on the current thread
+     * @return Buffer to pass to {@link #record} when the call completes on another thread
+     */
+    public static Buffer currentBuffer() {
+        return BUFFER.get();
+    }
+
+    /**
+     * Record a call into the buffer of a test
+     * @param buffer Buffer of the test that sent the request
+     * @param method HTTP method
+     * @param uri Request URI
+     * @param requestHeaders Request headers
+     * @param requestBody Request body, null if none
+     * @param response Response of the call
+     */
+    public void record(Buffer buffer, String method, String uri, Headers requestHeaders,
+                       String requestBody, Response response) {
+        buffer.add(new ApiCall(
+                method,
+                uri,
+                requestHeaders,
+                requestBody == null ? null : cap(requestBody.getBytes(StandardCharsets.UTF_8)),
+                response.getStatusLine(),
+                response.getHeaders(),
+                cap(response.asByteArray())), bufferSize);
+    }
+
+    private byte[] cap(byte[] body) {
+        return body.length > maxBodyBytes ? Arrays.copyOf(body, maxBodyBytes) : body;
+    }
+
+    /**
+     * Discard the calls recorded on the current thread
+     */
+    public static void clear() {
+        BUFFER.get().clear();
+    }
+
+    /**
+     * Check if calls were recorded on the current thread
+     * @return true if the buffer holds at least one call
+     */
+    public static boolean hasCalls() {
+        return BUFFER.get().hasCalls();
+    }
+
+    /**
+     * Format the calls recorded on the current thread and clear the buffer
+     * @return Request and response details of every recorded call
+     */
+    public static String dump() {
+        return BUFFER.get().dump();
+    }
+
+    /**
+     * Bounded buffer of the API calls of one test
+     */
+    public static class Buffer {
+        private final Deque<ApiCall> calls = new ArrayDeque<>();
+
+        synchronized void add(ApiCall call, int bufferSize) {
+            if (calls.size() >= bufferSize) {
+                calls.pollFirst();
+            }
+            calls.addLast(call);
+        }
+
+        synchronized void clear() {
+            calls.clear();
+        }
+
+        synchronized boolean hasCalls() {
+            return !calls.isEmpty();
+        }
+
+        synchronized String dump() {
+            StringBuilder output = new StringBuilder();
+            for (ApiCall call : calls) {
+                call.appendTo(output);
+            }
+            calls.clear();
+            return output.toString();
+        }
+    }
+
+    /**
+     * Request and response details of one API call
+     */
+    private static class ApiCall {
+        private final String method;
+        private final String uri;
+        private final Headers requestHeaders;
+        private final byte[] requestBody;
+        private final String statusLine;
+        private final Headers responseHeaders;
+        private final byte[] responseBody;
+
+        ApiCall(String method, String uri, Headers requestHeaders, byte[] requestBody,
+                String statusLine, Headers responseHeaders, byte[] responseBody) {
+            this.method = method;
+            this.uri = uri;
+            this.requestHeaders = requestHeaders;
+            this.requestBody = requestBody;
+            this.statusLine = statusLine;
+            this.responseHeaders = responseHeaders;
+            this.responseBody = responseBody;
+        }
+
+        void appendTo(StringBuilder output) {
+            output.append("Request: ").append(method).append(' ').append(uri).append('\n');
+            appendHeaders(output, requestHeaders);
+            if (requestBody != null) {
+                output.append(new String(requestBody, StandardCharsets.UTF_8)).append('\n');
+            }
+            output.append("Response: ").append(statusLine).append('\n');
+            appendHeaders(output, responseHeaders);
+            output.append(new String(responseBody, StandardCharsets.UTF_8)).append("\n\n");
+        }
+
+        private static void appendHeaders(StringBuilder output, Headers headers) {
+            for (Header header : headers) {
+                output.append("  ").append(header.getName()).append(": ").append(header.getValue()).append('\n');
+            }
+        }
+    }
+}
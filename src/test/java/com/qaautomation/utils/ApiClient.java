@@ -1,30 +1,189 @@
 package com.qaautomation.utils;
 
+import com.google.gson.Gson;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.log.LogDetail;
+import io.restassured.filter.log.ResponseLoggingFilter;
 import io.restassured.http.ContentType;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.http.Method;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.HeaderElement;
+import org.apache.http.client.HttpClient;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.message.BasicHeaderElementIterator;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.protocol.HTTP;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
 
 /**
  * API client for handling REST API requests and responses.
  * Encapsulates REST-Assured functionality for API testing.
+ * Every instance owns its base URL, request specification and pooled HTTP client,
+ * so clients for different services can be used concurrently.
+ * The *Async methods send requests without blocking through the JDK HTTP client,
+ * keeping many requests in flight on a small thread pool.
  * 
  * @author QA Framework Team
  * @version 1.0
  */
-public class ApiClient {
+public class ApiClient implements AutoCloseable {
     
     private static final LoggerUtil logger = LoggerUtil.getLogger(ApiClient.class);
-    private String baseUrl;
+    private final String baseUrl;
+    private final ConnectionPool connectionPool;
+    private final RequestSpecification requestSpec;
+    private final RateLimiter rateLimiter;
+    private final ThreadLocal<Long> lastWaitMillis = ThreadLocal.withInitial(() -> 0L);
+    
+    private static final Gson GSON = new Gson();
+    private final ConfigReader config;
+    private final String logMode;
+    private final ApiCallRecorder apiCallRecorder;
+    private volatile java.net.http.HttpClient asyncHttpClient;
+    private ExecutorService asyncExecutor;
     
     /**
      * Constructor to initialize API client with base URL
      * @param baseUrl The base URL for API requests
      */
     public ApiClient(String baseUrl) {
+        this(baseUrl, ConfigReader.getInstance());
+    }
+    
+    /**
+     * Constructor to initialize API client with base URL and connection settings
+     * @param baseUrl The base URL for API requests
+     * @param config Configuration reader providing the HTTP connection settings
+     */
+    public ApiClient(String baseUrl, ConfigReader config) {
+        this(baseUrl, config, RateLimiter.forHost(URI.create(baseUrl).getHost(), config));
+    }
+    
+    /**
+     * Constructor to initialize API client with base URL, connection settings and rate limiter
+     * @param baseUrl The base URL for API requests
+     * @param config Configuration reader providing the HTTP connection settings
+     * @param rateLimiter Rate limiter applied to every request of this client
+     */
+    public ApiClient(String baseUrl, ConfigReader config, RateLimiter rateLimiter) {
         this.baseUrl = baseUrl;
-        RestAssured.baseURI = baseUrl;
-        logger.info("API Client initialized with base URL: " + baseUrl);
+        this.rateLimiter = rateLimiter;
+        this.config = config;
+        this.connectionPool = new ConnectionPool(config.getApiPoolMaxTotal(), config.getApiPoolMaxPerRoute());
+        
+        HttpClientConfig httpClientConfig = withTimeouts(HttpClientConfig.httpClientConfig()
+                .httpClientFactory(() -> createHttpClient(config.getApiKeepAliveMillis()))
+                .reuseHttpClientInstance(), config);
+        
+        RequestSpecBuilder specBuilder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setContentType(ContentType.JSON)
+                .setConfig(RestAssuredConfig.config().httpClient(httpClientConfig));
+        
+        // Full logging of every response is expensive; by default calls are only kept for failed tests
+        this.logMode = config.getApiLogMode();
+        this.apiCallRecorder = ConfigReader.API_LOG_MODE_ON_FAILURE.equals(logMode)
+                ? new ApiCallRecorder(config.getApiLogBufferSize(), config.getApiLogMaxBodyBytes())
+                : null;
+        if (ConfigReader.API_LOG_MODE_ALL.equals(logMode)) {
+            specBuilder.addFilter(new ResponseLoggingFilter(LogDetail.ALL));
+        } else if (apiCallRecorder != null) {
+            specBuilder.addFilter(apiCallRecorder);
+        }
+        this.requestSpec = specBuilder.build();
+        logger.info("API Client initialized with base URL: {}", baseUrl);
+    }
+    
+    /**
+     * Create the HTTP client shared by all requests of this API client.
+     * REST-Assured requires an AbstractHttpClient, hence the classic DefaultHttpClient API.
+     * @param keepAliveMillis Idle time a connection is kept open, 0 to disable keep-alive
+     * @return Pooled HTTP client
+     */
+    @SuppressWarnings("deprecation")
+    private HttpClient createHttpClient(long keepAliveMillis) {
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionPool.manager);
+        if (keepAliveMillis <= 0) {
+            httpClient.setReuseStrategy(new NoConnectionReuseStrategy());
+            return httpClient;
+        }
+        httpClient.setKeepAliveStrategy((response, context) -> {
+            // Honour a shorter timeout announced by the server in the Keep-Alive header
+            BasicHeaderElementIterator iterator = new BasicHeaderElementIterator(
+                    response.headerIterator(HTTP.CONN_KEEP_ALIVE));
+            while (iterator.hasNext()) {
+                HeaderElement element = iterator.nextElement();
+                if ("timeout".equalsIgnoreCase(element.getName()) && element.getValue() != null) {
+                    try {
+                        return Math.min(keepAliveMillis, Long.parseLong(element.getValue()) * 1000);
+                    } catch (NumberFormatException e) {
+                        logger.debug("Invalid Keep-Alive timeout: {}", element.getValue());
+                    }
+                }
+            }
+            return keepAliveMillis;
+        });
+        return httpClient;
+    }
+    
+    /**
+     * Apply the configured connect and read timeouts.
+     * REST-Assured only takes them as classic HttpClient parameters.
+     * @param httpClientConfig HTTP client configuration
+     * @param config Configuration reader providing the timeouts
+     * @return HTTP client configuration with timeouts
+     */
+    @SuppressWarnings("deprecation")
+    private static HttpClientConfig withTimeouts(HttpClientConfig httpClientConfig, ConfigReader config) {
+        return httpClientConfig
+                .setParam(CoreConnectionPNames.CONNECTION_TIMEOUT, config.getApiConnectTimeoutMillis())
+                .setParam(CoreConnectionPNames.SO_TIMEOUT, config.getApiReadTimeoutMillis());
+    }
+    
+    /**
+     * Get the base URL of this client
+     * @return Base URL
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+    
+    /**
+     * Get how long the last request of the current thread waited for the rate limiter
+     * @return Wait in milliseconds, including waits before retries
+     */
+    public long getLastWaitMillis() {
+        return lastWaitMillis.get();
+    }
+    
+    /**
+     * Get the rate limiter of this client
+     * @return RateLimiter instance
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
     }
     
     /**
@@ -33,16 +192,10 @@ public class ApiClient {
      * @return Response object
      */
     public Response get(String endpoint) {
-        logger.info("Performing GET request to: " + endpoint);
-        Response response = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .when()
-                .get(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
-        logger.info("GET Response Status Code: " + response.getStatusCode());
+        logger.info("Performing GET request to: {}", endpoint);
+        Response response = send(Method.GET, endpoint, spec -> spec);
+        
+        logger.info("GET Response Status Code: {}", response.getStatusCode());
         return response;
     }
     
@@ -53,19 +206,12 @@ public class ApiClient {
      * @return Response object
      */
     public Response post(String endpoint, Object payload) {
-        logger.info("Performing POST request to: " + endpoint);
-        logger.debug("Request payload: " + payload.toString());
-        
-        Response response = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .body(payload)
-                .when()
-                .post(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
-        logger.info("POST Response Status Code: " + response.getStatusCode());
+        logger.info("Performing POST request to: {}", endpoint);
+        logger.debug("Request payload: {}", payload);
+        
+        Response response = send(Method.POST, endpoint, spec -> spec.body(toJson(payload)));
+        
+        logger.info("POST Response Status Code: {}", response.getStatusCode());
         return response;
     }
     
@@ -76,19 +222,12 @@ public class ApiClient {
      * @return Response object
      */
     public Response put(String endpoint, Object payload) {
-        logger.info("Performing PUT request to: " + endpoint);
-        logger.debug("Request payload: " + payload.toString());
-        
-        Response response = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .body(payload)
-                .when()
-                .put(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
-        logger.info("PUT Response Status Code: " + response.getStatusCode());
+        logger.info("Performing PUT request to: {}", endpoint);
+        logger.debug("Request payload: {}", payload);
+        
+        Response response = send(Method.PUT, endpoint, spec -> spec.body(toJson(payload)));
+        
+        logger.info("PUT Response Status Code: {}", response.getStatusCode());
         return response;
     }
     
@@ -98,17 +237,11 @@ public class ApiClient {
      * @return Response object
      */
     public Response delete(String endpoint) {
-        logger.info("Performing DELETE request to: " + endpoint);
+        logger.info("Performing DELETE request to: {}", endpoint);
         
-        Response response = RestAssured.given()
-                .contentType(ContentType.JSON)
-                .when()
-                .delete(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
+        Response response = send(Method.DELETE, endpoint, spec -> spec);
         
-        logger.info("DELETE Response Status Code: " + response.getStatusCode());
+        logger.info("DELETE Response Status Code: {}", response.getStatusCode());
         return response;
     }
     
@@ -119,18 +252,253 @@ public class ApiClient {
      * @return Response object
      */
     public Response getWithAuth(String endpoint, String authToken) {
-        logger.info("Performing GET request with authorization to: " + endpoint);
-        
-        Response response = RestAssured.given()
-                .header("Authorization", "Bearer " + authToken)
-                .contentType(ContentType.JSON)
-                .when()
-                .get(endpoint)
-                .then()
-                .log().all()
-                .extract().response();
-        
-        logger.info("GET with Auth Response Status Code: " + response.getStatusCode());
+        logger.info("Performing GET request with authorization to: {}", endpoint);
+        
+        Response response = send(Method.GET, endpoint, spec -> spec.header("Authorization", "Bearer " + authToken));
+        
+        logger.info("GET with Auth Response Status Code: {}", response.getStatusCode());
         return response;
     }
+    
+    /**
+     * Send a request through the rate limiter, retrying while the server answers 429
+     * @param method HTTP method
+     * @param endpoint API endpoint
+     * @param customizer Adds body and headers to the request
+     * @return Response object
+     */
+    private Response send(Method method, String endpoint, UnaryOperator<RequestSpecification> customizer) {
+        long waitedMillis = 0;
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            waitedMillis += rateLimiter.acquire();
+            PhaseTimer.record("api.ratelimit", start);
+            start = System.nanoTime();
+            Response response = customizer.apply(RestAssured.given(requestSpec)).request(method, endpoint);
+            PhaseTimer.record("api.request", start);
+            if (!rateLimiter.handleResponse(response.getStatusCode(), response::getHeader, attempt)) {
+                lastWaitMillis.set(waitedMillis);
+                if (waitedMillis > 0) {
+                    logger.info("{} {} waited {}ms for rate limit", method, endpoint, waitedMillis);
+                }
+                return response;
+            }
+            logger.info("{} {} got 429 Too Many Requests, retrying (attempt {})", method, endpoint, attempt);
+        }
+    }
+    
+    /**
+     * Perform GET request without blocking
+     * @param endpoint API endpoint
+     * @return Future completed with the response
+     */
+    public CompletableFuture<Response> getAsync(String endpoint) {
+        logger.debug("Performing async GET request to: {}", endpoint);
+        return sendAsync(Method.GET, endpoint, null, null);
+    }
+    
+    /**
+     * Perform POST request with JSON body without blocking
+     * @param endpoint API endpoint
+     * @param payload Request body as object
+     * @return Future completed with the response
+     */
+    public CompletableFuture<Response> postAsync(String endpoint, Object payload) {
+        logger.debug("Performing async POST request to: {}", endpoint);
+        return sendAsync(Method.POST, endpoint, payload, null);
+    }
+    
+    /**
+     * Perform PUT request with JSON body without blocking
+     * @param endpoint API endpoint
+     * @param payload Request body as object
+     * @return Future completed with the response
+     */
+    public CompletableFuture<Response> putAsync(String endpoint, Object payload) {
+        logger.debug("Performing async PUT request to: {}", endpoint);
+        return sendAsync(Method.PUT, endpoint, payload, null);
+    }
+    
+    /**
+     * Perform DELETE request without blocking
+     * @param endpoint API endpoint
+     * @return Future completed with the response
+     */
+    public CompletableFuture<Response> deleteAsync(String endpoint) {
+        logger.debug("Performing async DELETE request to: {}", endpoint);
+        return sendAsync(Method.DELETE, endpoint, null, null);
+    }
+    
+    /**
+     * Perform GET request with specific authorization header without blocking
+     * @param endpoint API endpoint
+     * @param authToken Authorization token
+     * @return Future completed with the response
+     */
+    public CompletableFuture<Response> getWithAuthAsync(String endpoint, String authToken) {
+        logger.debug("Performing async GET request with authorization to: {}", endpoint);
+        return sendAsync(Method.GET, endpoint, null, authToken);
+    }
+    
+    /**
+     * Build an asynchronous request and send it through the rate limiter
+     * @param method HTTP method
+     * @param endpoint API endpoint
+     * @param payload Request body as object, null if none
+     * @param authToken Authorization token, null if none
+     * @return Future completed with the response
+     */
+    private CompletableFuture<Response> sendAsync(Method method, String endpoint, Object payload, String authToken) {
+        String body = toJson(payload);
+        List<Header> requestHeaders = new ArrayList<>();
+        requestHeaders.add(new Header("Content-Type", "application/json; charset=UTF-8"));
+        if (authToken != null) {
+            requestHeaders.add(new Header("Authorization", "Bearer " + authToken));
+        }
+        
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(baseUrl + endpoint))
+                .timeout(Duration.ofMillis(config.getApiReadTimeoutMillis()))
+                .method(method.name(), body == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        for (Header header : requestHeaders) {
+            requestBuilder.header(header.getName(), header.getValue());
+        }
+        
+        // Calls completing on pool threads still belong to the test that sent them
+        ApiCallRecorder.Buffer buffer = ApiCallRecorder.currentBuffer();
+        return sendAsync(requestBuilder.build(), new Headers(requestHeaders), body, buffer, 1);
+    }
+    
+    private CompletableFuture<Response> sendAsync(HttpRequest request, Headers requestHeaders, String body,
+                                                  ApiCallRecorder.Buffer buffer, int attempt) {
+        java.net.http.HttpClient httpClient = asyncHttpClient();
+        long waitNanos = rateLimiter.reserve();
+        long waitedMillis = rateLimiter.recordWait(waitNanos);
+        CompletableFuture<Void> permit = waitNanos > 0
+                ? CompletableFuture.runAsync(() -> { },
+                        CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS, asyncExecutor))
+                : CompletableFuture.completedFuture(null);
+        
+        long[] sentAt = new long[1];
+        return permit
+                .thenCompose(ignored -> {
+                    sentAt[0] = System.nanoTime();
+                    return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+                })
+                .thenCompose(httpResponse -> {
+                    PhaseTimer.record("api.request.async", sentAt[0]);
+                    Response response = toResponse(httpResponse);
+                    if (rateLimiter.handleResponse(response.getStatusCode(), response::getHeader, attempt)) {
+                        logger.info("{} {} got 429 Too Many Requests, retrying (attempt {})",
+                                request.method(), request.uri(), attempt);
+                        return sendAsync(request, requestHeaders, body, buffer, attempt + 1);
+                    }
+                    if (waitedMillis > 0) {
+                        logger.info("{} {} waited {}ms for rate limit", request.method(), request.uri(), waitedMillis);
+                    }
+                    if (apiCallRecorder != null) {
+                        apiCallRecorder.record(buffer, request.method(), request.uri().toString(),
+                                requestHeaders, body, response);
+                    } else if (ConfigReader.API_LOG_MODE_ALL.equals(logMode)) {
+                        logger.info("{} {} -> {}\n{}", request.method(), request.uri(),
+                                response.getStatusLine(), response.asString());
+                    }
+                    return CompletableFuture.completedFuture(response);
+                });
+    }
+    
+    /**
+     * Serialize a request body once with the shared Gson instance; payloads with a streaming
+     * adapter, such as CreateEmployeePayload, are written without reflection
+     * @param payload Request body as object, or an already serialized string
+     * @return JSON body, null if there is no payload
+     */
+    private static String toJson(Object payload) {
+        if (payload == null || payload instanceof String) {
+            return (String) payload;
+        }
+        return GSON.toJson(payload);
+    }
+    
+    /**
+     * Convert a JDK HTTP response into a REST-Assured response, so the same assertions apply
+     * @param httpResponse JDK HTTP response
+     * @return Response object
+     */
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        for (Map.Entry<String, List<String>> entry : httpResponse.headers().map().entrySet()) {
+            for (String value : entry.getValue()) {
+                headers.add(new Header(entry.getKey(), value));
+            }
+        }
+        String version = httpResponse.version() == java.net.http.HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+        return new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine(version + " " + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(httpResponse.headers().firstValue("Content-Type").orElse(""))
+                .setBody(httpResponse.body())
+                .build();
+    }
+    
+    /**
+     * Get the JDK HTTP client used for asynchronous requests, creating it on first use
+     * @return HTTP client
+     */
+    private java.net.http.HttpClient asyncHttpClient() {
+        java.net.http.HttpClient httpClient = asyncHttpClient;
+        if (httpClient == null) {
+            synchronized (this) {
+                httpClient = asyncHttpClient;
+                if (httpClient == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    asyncExecutor = Executors.newFixedThreadPool(config.getApiAsyncThreads(), runnable -> {
+                        Thread thread = new Thread(runnable, "api-async-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    httpClient = java.net.http.HttpClient.newBuilder()
+                            .executor(asyncExecutor)
+                            .connectTimeout(Duration.ofMillis(config.getApiConnectTimeoutMillis()))
+                            .build();
+                    asyncHttpClient = httpClient;
+                }
+            }
+        }
+        return httpClient;
+    }
+    
+    /**
+     * Close all pooled connections of this client
+     */
+    @Override
+    public void close() {
+        connectionPool.shutdown();
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdown();
+            }
+        }
+        logger.info("API Client closed for base URL: {}", baseUrl);
+    }
+    
+    /**
+     * Connection pool of the classic HttpClient API that DefaultHttpClient requires
+     */
+    @SuppressWarnings("deprecation")
+    private static final class ConnectionPool {
+        private final PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        
+        private ConnectionPool(int maxTotal, int maxPerRoute) {
+            manager.setMaxTotal(maxTotal);
+            manager.setDefaultMaxPerRoute(maxPerRoute);
+        }
+        
+        private void shutdown() {
+            manager.closeIdleConnections(0, TimeUnit.MILLISECONDS);
+            manager.shutdown();
+        }
+    }
 }
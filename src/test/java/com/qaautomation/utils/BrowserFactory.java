@@ -2,6 +2,8 @@ package com.qaautomation.utils;
 
 import com.microsoft.playwright.*;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -16,26 +18,34 @@ public class BrowserFactory {
     private static final LoggerUtil logger = LoggerUtil.getLogger(BrowserFactory.class);
     
     /**
-     * Create browser instance based on specified type
+     * Create browser instance based on specified type, with the launch options of the configured execution profile
      * @param playwright Playwright instance
      * @param browserType Type of browser (chromium, firefox, webkit)
      * @return Browser instance
      */
     public Browser createBrowser(Playwright playwright, String browserType) {
-        logger.info("Creating browser of type: " + browserType);
-        
-        BrowserType.LaunchOptions launchOptions = new BrowserType.LaunchOptions();
-        
-        // Set headless mode
-        ConfigReader config = new ConfigReader();
-        launchOptions.setHeadless(config.isHeadless());
-        logger.debug("Browser headless mode: " + config.isHeadless());
+        return createBrowser(playwright, browserType, Collections.emptyList());
+    }
+    
+    /**
+     * Create browser instance with command line arguments added to those of the execution profile
+     * @param playwright Playwright instance
+     * @param browserType Type of browser (chromium, firefox, webkit)
+     * @param extraArgs Additional browser arguments
+     * @return Browser instance
+     */
+    public Browser createBrowser(Playwright playwright, String browserType, List<String> extraArgs) {
+        ConfigReader config = ConfigReader.getInstance();
+        ExecutionProfile profile = config.getExecutionProfile();
+        logger.info("Creating browser of type: {}, execution profile: {}", browserType, profile);
         
-        // Set additional browser options
-        launchOptions.setSlowMo(100); // Slow down actions for visibility during debugging
-        launchOptions.setArgs(List.of(
-                "--disable-blink-features=AutomationControlled"
-        ));
+        BrowserType.LaunchOptions launchOptions = profile.launchOptions(browserType, config.isHeadless());
+        if (!extraArgs.isEmpty()) {
+            List<String> args = launchOptions.args == null ? new ArrayList<>() : new ArrayList<>(launchOptions.args);
+            args.addAll(extraArgs);
+            launchOptions.setArgs(args);
+        }
+        logger.debug("Browser headless mode: {}, slowMo: {}ms", launchOptions.headless, launchOptions.slowMo);
         
         Browser browser;
         
@@ -59,18 +69,30 @@ public class BrowserFactory {
     }
     
     /**
-     * Create browser context with viewport settings
+     * Create browser context with the viewport of the configured execution profile
      * @param browser Browser instance
      * @return BrowserContext with configured viewport
      */
     public BrowserContext createBrowserContext(Browser browser) {
-        logger.info("Creating browser context");
-        
-        Browser.NewContextOptions contextOptions = new Browser.NewContextOptions();
-        contextOptions.setViewportSize(1920, 1080);
+        return createBrowserContext(browser, new Browser.NewContextOptions());
+    }
+    
+    /**
+     * Create browser context with the given options, completed by the configured execution profile,
+     * and the configured network policy
+     * @param browser Browser instance
+     * @param contextOptions Context options
+     * @return BrowserContext with network policy installed
+     */
+    public BrowserContext createBrowserContext(Browser browser, Browser.NewContextOptions contextOptions) {
+        ConfigReader config = ConfigReader.getInstance();
+        ExecutionProfile profile = config.getExecutionProfile();
+        profile.applyTo(contextOptions);
         
         BrowserContext context = browser.newContext(contextOptions);
-        logger.info("Browser context created with viewport: 1920x1080");
+        logger.info("Browser context created with viewport: {}x{}",
+                contextOptions.viewportSize.get().width, contextOptions.viewportSize.get().height);
+        NetworkPolicy.fromConfig(config).install(context);
         
         return context;
     }
@@ -0,0 +1,95 @@
+package com.qaautomation.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Consumer;
+
+/**
+ * Merges the configuration layers, lowest precedence first: classpath config.properties,
+ * classpath config-&lt;environment&gt;.properties, environment variables prefixed with QA_
+ * and JVM system properties. Does not log, so it can run while logback is being configured.
+ *
+ * @author QA Framework Team
+ * @version 1.0
+ */
+final class ConfigLayers {
+
+    static final String CONFIG_FILE = "config.properties";
+    private static final String ENVIRONMENT_KEY = "environment";
+    // Only environment variables with this prefix are configuration, e.g. QA_API_BASE_URL
+    private static final String ENVIRONMENT_VARIABLE_PREFIX = "QA_";
+
+    private ConfigLayers() {
+    }
+
+    /**
+     * Merge the configuration layers, later layers overriding earlier ones
+     * @param onResourceLoaded Called with the name of each classpath resource that was loaded
+     * @return Immutable map of configuration values
+     */
+    static Map<String, String> merge(Consumer<String> onResourceLoaded) {
+        Map<String, String> merged = new HashMap<>();
+        loadResource(CONFIG_FILE, true, merged, onResourceLoaded);
+
+        Map<String, String> environmentVariables = new HashMap<>();
+        System.getenv().forEach((name, value) -> {
+            if (name.startsWith(ENVIRONMENT_VARIABLE_PREFIX)) {
+                environmentVariables.put(toPropertyKey(name.substring(ENVIRONMENT_VARIABLE_PREFIX.length())), value);
+            }
+        });
+
+        // The environment can itself be overridden, so resolve it before picking its file
+        String environment = System.getProperty(ENVIRONMENT_KEY,
+                environmentVariables.getOrDefault(ENVIRONMENT_KEY, merged.get(ENVIRONMENT_KEY)));
+        if (environment != null && !environment.trim().isEmpty()) {
+            loadResource("config-" + environment.trim() + ".properties", false, merged, onResourceLoaded);
+        }
+
+        merged.putAll(environmentVariables);
+        for (String key : System.getProperties().stringPropertyNames()) {
+            merged.put(key, System.getProperty(key));
+        }
+        return Collections.unmodifiableMap(merged);
+    }
+
+    /**
+     * Load a properties file from the classpath into the given map
+     * @param resource Classpath resource name
+     * @param required Whether a missing resource is an error
+     * @param target Map receiving the properties
+     * @param onResourceLoaded Called with the resource name once it is loaded
+     */
+    private static void loadResource(String resource, boolean required, Map<String, String> target,
+                                     Consumer<String> onResourceLoaded) {
+        try (InputStream input = ConfigLayers.class.getClassLoader().getResourceAsStream(resource)) {
+            if (input == null) {
+                if (required) {
+                    throw new RuntimeException("Configuration file not found on classpath: " + resource);
+                }
+                return;
+            }
+            Properties properties = new Properties();
+            properties.load(input);
+            for (String key : properties.stringPropertyNames()) {
+                target.put(key, properties.getProperty(key));
+            }
+            onResourceLoaded.accept(resource);
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load configuration properties from " + resource, e);
+        }
+    }
+
+    /**
+     * Map an environment variable name without its prefix to a property key, e.g. API_BASE_URL to api.base.url
+     * @param name Environment variable name
+     * @return Property key
+     */
+    private static String toPropertyKey(String name) {
+        return name.toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+}
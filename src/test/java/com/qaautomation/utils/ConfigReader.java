@@ -1,12 +1,18 @@
 package com.qaautomation.utils;
 
-import java.io.FileInputStream;
-import java.io.IOException;
-import java.util.Properties;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Configuration reader to manage application and test environment properties.
- * Reads from config.properties file and provides getter methods for configuration values.
+ * The configuration is loaded once per JVM into an immutable snapshot with typed values,
+ * so lookups need neither locking nor parsing. Layers, lowest precedence first:
+ * classpath config.properties, classpath config-&lt;environment&gt;.properties,
+ * environment variables prefixed with QA_ (api.base.url is read from QA_API_BASE_URL) and JVM system properties.
  * 
  * @author QA Framework Team
  * @version 1.0
@@ -14,30 +20,188 @@ import java.util.Properties;
 public class ConfigReader {
     
     private static final LoggerUtil logger = LoggerUtil.getLogger(ConfigReader.class);
-    private Properties properties;
-    private static final String CONFIG_PATH = "src/test/resources/config.properties";
+    private static final String ENVIRONMENT_KEY = "environment";
+    private static final String WAIT_TIMEOUT_PREFIX = "wait.timeout.";
+
+    public static final String HAR_MODE_OFF = "off";
+    public static final String HAR_MODE_RECORD = "record";
+    public static final String HAR_MODE_REPLAY = "replay";
+
+    public static final String TRACE_MODE_OFF = "off";
+    public static final String TRACE_MODE_ON_FAILURE = "on-failure";
+    public static final String TRACE_MODE_ALWAYS = "always";
+
+    public static final String API_LOG_MODE_ALL = "all";
+    public static final String API_LOG_MODE_ON_FAILURE = "on-failure";
+    public static final String API_LOG_MODE_NONE = "none";
+
+    public static final String LOAD_MODEL_OPEN = "open";
+    public static final String LOAD_MODEL_CLOSED = "closed";
+    
+    private final Map<String, String> properties;
+    
+    private final String browserType;
+    private final String baseUrl;
+    private final boolean headless;
+    private final ExecutionProfile executionProfile;
+    private final String traceDir;
+    private final String traceMode;
+    private final boolean traceScreenshotsEnabled;
+    private final boolean traceSnapshotsEnabled;
+    private final boolean traceSourcesEnabled;
+    private final long traceMaxFileMb;
+    private final long traceMaxTotalMb;
+    private final int traceRetentionCount;
+    private final int waitTimeout;
+    private final Map<String, PageWaitTimeouts> pageWaitTimeouts;
+    private final String environment;
+    private final boolean hermeticProfile;
+    private final boolean uiFixtureMode;
+    private final String uiFixtureDir;
+    private final int mockApiPort;
+    private final int mockApiThreads;
+    private final String apiBaseUrl;
+    private final int apiPoolMaxTotal;
+    private final int apiPoolMaxPerRoute;
+    private final long apiKeepAliveMillis;
+    private final int apiConnectTimeoutMillis;
+    private final int apiReadTimeoutMillis;
+    private final int apiAsyncThreads;
+    private final boolean apiRateLimitEnabled;
+    private final double apiRateLimitPermitsPerSecond;
+    private final int apiRateLimitBurst;
+    private final int apiRetryMaxAttempts;
+    private final long apiRetryInitialBackoffMillis;
+    private final long apiRetryMaxBackoffMillis;
+    private final String apiLogMode;
+    private final int apiLogBufferSize;
+    private final int apiLogMaxBodyBytes;
+    private final boolean networkBlockingEnabled;
+    private final String harMode;
+    private final String harDir;
+    private final String harUrlPattern;
+    private final boolean harFallbackEnabled;
+    private final String consentStatePath;
+    private final boolean parallelEnabled;
+    private final int parallelThreadCount;
+    private final boolean logCaptureEnabled;
+    private final int logCaptureBufferSize;
+    private final String logDir;
+    private final boolean phaseTimingEnabled;
+    private final String phaseTimingDir;
+    private final long dataSeed;
+    private final long dataRowsLimit;
+    private final int dataProviderWindow;
+    private final boolean scheduleEnabled;
+    private final String scheduleHistoryFile;
+    private final String loadModel;
+    private final double loadTargetRps;
+    private final int loadUsers;
+    private final int loadMaxConcurrency;
+    private final long loadRampUpSeconds;
+    private final long loadDurationSeconds;
+    private final double loadMaxErrorPercent;
+    private final String loadReportDir;
+    private final int loadUiContexts;
+    private final int loadUiBrowsers;
+    private final long loadUiThinkMillis;
     
     /**
-     * Constructor - loads configuration from properties file
+     * Holder of the shared snapshot, initialised on first use
      */
-    public ConfigReader() {
-        properties = new Properties();
-        loadProperties();
+    private static final class Holder {
+        private static final ConfigReader INSTANCE = new ConfigReader(ConfigLayers.merge(
+                resource -> logger.info("Configuration properties loaded from: {}", resource)));
     }
     
     /**
-     * Load properties from config file
+     * Get the configuration snapshot of this JVM
+     * @return ConfigReader instance
      */
-    private void loadProperties() {
-        try {
-            FileInputStream fileInputStream = new FileInputStream(CONFIG_PATH);
-            properties.load(fileInputStream);
-            fileInputStream.close();
-            logger.info("Configuration properties loaded from: " + CONFIG_PATH);
-        } catch (IOException e) {
-            logger.error("Error loading configuration file: " + CONFIG_PATH, e);
-            throw new RuntimeException("Failed to load configuration properties", e);
+    public static ConfigReader getInstance() {
+        return Holder.INSTANCE;
+    }
+    
+    /**
+     * Constructor - parses all typed values once
+     * @param properties Merged configuration layers
+     */
+    private ConfigReader(Map<String, String> properties) {
+        this.properties = properties;
+        
+        browserType = getProperty("browser.type", "chromium");
+        baseUrl = getProperty("app.base.url", null);
+        headless = parseBoolean("browser.headless", "true");
+        executionProfile = ExecutionProfile.fromName(getProperty("execution.profile", "fast"));
+        traceDir = getProperty("trace.dir", "target/traces");
+        traceMode = executionProfile.isTracing() ? TRACE_MODE_ALWAYS
+                : parseChoice("trace.mode", TRACE_MODE_ON_FAILURE, TRACE_MODE_OFF, TRACE_MODE_ON_FAILURE, TRACE_MODE_ALWAYS);
+        traceScreenshotsEnabled = parseBoolean("trace.screenshots", "true");
+        traceSnapshotsEnabled = parseBoolean("trace.snapshots", "true");
+        traceSourcesEnabled = parseBoolean("trace.sources", "false");
+        traceMaxFileMb = parseLong("trace.max.file.mb", "50");
+        traceMaxTotalMb = parseLong("trace.max.total.mb", "500");
+        traceRetentionCount = parseInt("trace.retention.count", "20");
+        waitTimeout = parseInt("wait.timeout", "5000");
+        pageWaitTimeouts = parseWaitTimeouts();
+        environment = getProperty(ENVIRONMENT_KEY, "staging");
+        hermeticProfile = "hermetic".equalsIgnoreCase(getProperty("test.profile", "live").trim());
+        uiFixtureMode = parseBoolean("app.fixtures.enabled", String.valueOf(hermeticProfile));
+        uiFixtureDir = getProperty("app.fixtures.dir", "fixtures/samplepagetest");
+        
+        mockApiPort = parseInt("mock.api.port", "18080");
+        mockApiThreads = parseInt("mock.api.threads", "16");
+        if (hermeticProfile && mockApiPort <= 0) {
+            // api.base.url is fixed when the configuration loads, before the mock picks a free port
+            throw new IllegalArgumentException("mock.api.port must be a fixed port in the hermetic profile: " + mockApiPort);
         }
+        apiBaseUrl = hermeticProfile ? "http://localhost:" + mockApiPort : getProperty("api.base.url", null);
+        apiPoolMaxTotal = parseInt("api.http.pool.max.total", "50");
+        apiPoolMaxPerRoute = parseInt("api.http.pool.max.per.route", "20");
+        apiKeepAliveMillis = parseLong("api.http.keep.alive.ms", "30000");
+        apiConnectTimeoutMillis = parseInt("api.http.connect.timeout.ms", "10000");
+        apiReadTimeoutMillis = parseInt("api.http.read.timeout.ms", "30000");
+        apiAsyncThreads = parseInt("api.async.threads", "4");
+        apiRateLimitEnabled = parseBoolean("api.rate.limit.enabled", "true");
+        apiRateLimitPermitsPerSecond = Double.parseDouble(getProperty("api.rate.limit.permits.per.second", "1").trim());
+        apiRateLimitBurst = parseInt("api.rate.limit.burst", "1");
+        apiRetryMaxAttempts = parseInt("api.retry.max.attempts", "6");
+        apiRetryInitialBackoffMillis = parseLong("api.retry.backoff.initial.ms", "1000");
+        apiRetryMaxBackoffMillis = parseLong("api.retry.backoff.max.ms", "60000");
+        apiLogMode = parseChoice("api.log.mode", API_LOG_MODE_ON_FAILURE,
+                API_LOG_MODE_ALL, API_LOG_MODE_ON_FAILURE, API_LOG_MODE_NONE);
+        apiLogBufferSize = parseInt("api.log.buffer.size", "50");
+        apiLogMaxBodyBytes = parseInt("api.log.body.max.bytes", "8192");
+        
+        networkBlockingEnabled = parseBoolean("network.block.enabled", "false");
+        harMode = parseChoice("har.mode", HAR_MODE_OFF, HAR_MODE_OFF, HAR_MODE_RECORD, HAR_MODE_REPLAY);
+        harDir = getProperty("har.dir", "src/test/resources/har");
+        harUrlPattern = getProperty("har.url.pattern", "").trim();
+        harFallbackEnabled = "fallback".equalsIgnoreCase(getProperty("har.not.found", "abort").trim());
+        consentStatePath = getProperty("consent.state.path", "target/consent-state.json");
+        parallelEnabled = parseBoolean("parallel.enabled", "true");
+        parallelThreadCount = parseInt("parallel.thread.count", "4");
+        logCaptureEnabled = parseBoolean("log.capture.enabled", "true");
+        logCaptureBufferSize = parseInt("log.capture.buffer.size", "2000");
+        logDir = getProperty("log.dir", "logs/");
+        phaseTimingEnabled = parseBoolean("phase.timing.enabled", "true");
+        phaseTimingDir = getProperty("phase.timing.dir", "target");
+        dataSeed = parseLong("data.seed", "42");
+        dataRowsLimit = parseLong("data.rows.limit", "0");
+        dataProviderWindow = parseInt("data.provider.window", "32");
+        scheduleEnabled = parseBoolean("schedule.enabled", "true");
+        scheduleHistoryFile = getProperty("schedule.history.file", ".test-history/durations.json");
+        loadModel = parseChoice("load.model", LOAD_MODEL_OPEN, LOAD_MODEL_OPEN, LOAD_MODEL_CLOSED);
+        loadTargetRps = Double.parseDouble(getProperty("load.target.rps", "10").trim());
+        loadUsers = parseInt("load.users", "10");
+        loadMaxConcurrency = parseInt("load.max.concurrency", "50");
+        loadRampUpSeconds = parseLong("load.rampup.seconds", "10");
+        loadDurationSeconds = parseLong("load.duration.seconds", "60");
+        loadMaxErrorPercent = Double.parseDouble(getProperty("load.max.error.percent", "1").trim());
+        loadReportDir = getProperty("load.report.dir", "target");
+        loadUiContexts = parseInt("load.ui.contexts", "8");
+        loadUiBrowsers = parseInt("load.ui.browsers", "1");
+        loadUiThinkMillis = parseLong("load.ui.think.ms", "0");
     }
     
     /**
@@ -45,8 +209,6 @@ public class ConfigReader {
      * @return Browser type (chromium, firefox, webkit)
      */
     public String getBrowserType() {
-        String browserType = properties.getProperty("browser.type", "chromium");
-        logger.debug("Browser type: " + browserType);
         return browserType;
     }
     
@@ -55,19 +217,177 @@ public class ConfigReader {
      * @return Base URL
      */
     public String getBaseUrl() {
-        String baseUrl = properties.getProperty("app.base.url");
-        logger.debug("Base URL: " + baseUrl);
         return baseUrl;
     }
     
+    /**
+     * Check if the application under test is served from local fixtures.
+     * Defaults to true in the hermetic profile.
+     * @return true for fixture mode, false for the live application
+     */
+    public boolean isUiFixtureMode() {
+        return uiFixtureMode;
+    }
+    
+    /**
+     * Get classpath directory of the application fixtures
+     * @return Fixture directory
+     */
+    public String getUiFixtureDir() {
+        return uiFixtureDir;
+    }
+    
     /**
      * Get API base URL
      * @return API base URL
      */
     public String getApiBaseUrl() {
-        String apiUrl = properties.getProperty("api.base.url");
-        logger.info("API Base URL: " + apiUrl);
-        return apiUrl;
+        return apiBaseUrl;
+    }
+    
+    /**
+     * Check if the hermetic test profile is active.
+     * In this profile API tests run against the in-process mock Employee API.
+     * @return true if hermetic, false for the live services
+     */
+    public boolean isHermeticProfile() {
+        return hermeticProfile;
+    }
+    
+    /**
+     * Get port of the mock Employee API used by the hermetic profile
+     * @return Port number
+     */
+    public int getMockApiPort() {
+        return mockApiPort;
+    }
+    
+    /**
+     * Get number of request handling threads of the mock Employee API
+     * @return Thread count
+     */
+    public int getMockApiThreads() {
+        return mockApiThreads;
+    }
+    
+    /**
+     * Get maximum number of pooled API connections
+     * @return Maximum total connections
+     */
+    public int getApiPoolMaxTotal() {
+        return apiPoolMaxTotal;
+    }
+    
+    /**
+     * Get maximum number of pooled API connections per host
+     * @return Maximum connections per route
+     */
+    public int getApiPoolMaxPerRoute() {
+        return apiPoolMaxPerRoute;
+    }
+    
+    /**
+     * Get how long an idle API connection is kept alive
+     * @return Keep-alive in milliseconds, 0 to disable keep-alive
+     */
+    public long getApiKeepAliveMillis() {
+        return apiKeepAliveMillis;
+    }
+    
+    /**
+     * Get API connect timeout
+     * @return Connect timeout in milliseconds
+     */
+    public int getApiConnectTimeoutMillis() {
+        return apiConnectTimeoutMillis;
+    }
+    
+    /**
+     * Get API read timeout
+     * @return Read timeout in milliseconds
+     */
+    public int getApiReadTimeoutMillis() {
+        return apiReadTimeoutMillis;
+    }
+    
+    /**
+     * Get number of threads completing asynchronous API requests
+     * @return Thread count
+     */
+    public int getApiAsyncThreads() {
+        return apiAsyncThreads;
+    }
+    
+    /**
+     * Check if the client-side API rate limit is enabled
+     * @return true if requests are limited to the configured rate
+     */
+    public boolean isApiRateLimitEnabled() {
+        return apiRateLimitEnabled;
+    }
+    
+    /**
+     * Get sustained API request rate per host
+     * @return Requests per second
+     */
+    public double getApiRateLimitPermitsPerSecond() {
+        return apiRateLimitPermitsPerSecond;
+    }
+    
+    /**
+     * Get number of API requests allowed back to back before the rate limit applies
+     * @return Burst size
+     */
+    public int getApiRateLimitBurst() {
+        return apiRateLimitBurst;
+    }
+    
+    /**
+     * Get number of retries of an API request rejected with 429 Too Many Requests
+     * @return Maximum retries
+     */
+    public int getApiRetryMaxAttempts() {
+        return apiRetryMaxAttempts;
+    }
+    
+    /**
+     * Get first backoff after a 429 response without Retry-After header
+     * @return Backoff in milliseconds
+     */
+    public long getApiRetryInitialBackoffMillis() {
+        return apiRetryInitialBackoffMillis;
+    }
+    
+    /**
+     * Get upper bound of the backoff after 429 responses
+     * @return Backoff in milliseconds
+     */
+    public long getApiRetryMaxBackoffMillis() {
+        return apiRetryMaxBackoffMillis;
+    }
+    
+    /**
+     * Get API logging mode
+     * @return Logging mode (all, on-failure, none)
+     */
+    public String getApiLogMode() {
+        return apiLogMode;
+    }
+    
+    /**
+     * Get number of API calls kept per test for failure logging
+     * @return Buffer size
+     */
+    public int getApiLogBufferSize() {
+        return apiLogBufferSize;
+    }
+    
+    /**
+     * Get maximum request and response body size kept per API call
+     * @return Maximum body size in bytes
+     */
+    public int getApiLogMaxBodyBytes() {
+        return apiLogMaxBodyBytes;
     }
     
     /**
@@ -75,9 +395,79 @@ public class ConfigReader {
      * @return true if headless, false otherwise
      */
     public boolean isHeadless() {
-        String headless = properties.getProperty("browser.headless", "true");
-        logger.debug("Headless mode: " + headless);
-        return Boolean.parseBoolean(headless);
+        return headless;
+    }
+    
+    /**
+     * Get execution profile setting browser launch and context options
+     * @return Execution profile (fast, debug, trace)
+     */
+    public ExecutionProfile getExecutionProfile() {
+        return executionProfile;
+    }
+    
+    /**
+     * Get directory of recorded Playwright traces
+     * @return Trace directory
+     */
+    public String getTraceDir() {
+        return traceDir;
+    }
+    
+    /**
+     * Get Playwright trace mode
+     * @return Trace mode (off, on-failure, always); always for the trace execution profile
+     */
+    public String getTraceMode() {
+        return traceMode;
+    }
+    
+    /**
+     * Check if traces include screenshots
+     * @return true if screenshots are recorded
+     */
+    public boolean isTraceScreenshotsEnabled() {
+        return traceScreenshotsEnabled;
+    }
+    
+    /**
+     * Check if traces include DOM snapshots
+     * @return true if snapshots are recorded
+     */
+    public boolean isTraceSnapshotsEnabled() {
+        return traceSnapshotsEnabled;
+    }
+    
+    /**
+     * Check if traces include test sources
+     * @return true if sources are recorded
+     */
+    public boolean isTraceSourcesEnabled() {
+        return traceSourcesEnabled;
+    }
+    
+    /**
+     * Get maximum size of a single trace; larger traces are dropped
+     * @return Size in MB, 0 for no limit
+     */
+    public long getTraceMaxFileMb() {
+        return traceMaxFileMb;
+    }
+    
+    /**
+     * Get maximum total size of kept traces; the oldest are deleted first
+     * @return Size in MB, 0 for no limit
+     */
+    public long getTraceMaxTotalMb() {
+        return traceMaxTotalMb;
+    }
+    
+    /**
+     * Get number of traces kept; the oldest are deleted first
+     * @return Trace count, 0 for no limit
+     */
+    public int getTraceRetentionCount() {
+        return traceRetentionCount;
     }
     
     /**
@@ -85,9 +475,23 @@ public class ConfigReader {
      * @return Timeout in milliseconds
      */
     public int getWaitTimeout() {
-        String timeout = properties.getProperty("wait.timeout", "5000");
-        logger.debug("Wait timeout: " + timeout + "ms");
-        return Integer.parseInt(timeout);
+        return waitTimeout;
+    }
+    
+    /**
+     * Get wait timeout for an element or condition of a page, falling back to
+     * wait.timeout.&lt;page&gt; and then to wait.timeout
+     * @param page Logical page name
+     * @param name Logical element or condition name
+     * @return Timeout in milliseconds
+     */
+    public int getWaitTimeout(String page, String name) {
+        PageWaitTimeouts timeouts = pageWaitTimeouts.get(page);
+        if (timeouts == null) {
+            return waitTimeout;
+        }
+        Integer timeout = timeouts.byName.get(name);
+        return timeout != null ? timeout : timeouts.timeout;
     }
     
     /**
@@ -95,18 +499,324 @@ public class ConfigReader {
      * @return Environment (dev, staging, production)
      */
     public String getEnvironment() {
-        String env = properties.getProperty("environment", "staging");
-        logger.debug("Environment: " + env);
-        return env;
+        return environment;
+    }
+    
+    /**
+     * Check if blocking of unneeded network requests is enabled
+     * @return true if requests matching the block lists are aborted
+     */
+    public boolean isNetworkBlockingEnabled() {
+        return networkBlockingEnabled;
     }
     
     /**
-     * Get property by key with default value
+     * Get HAR mode for UI tests
+     * @return HAR mode (off, record, replay)
+     */
+    public String getHarMode() {
+        return harMode;
+    }
+    
+    /**
+     * Get directory of recorded HAR files
+     * @return HAR directory
+     */
+    public String getHarDir() {
+        return harDir;
+    }
+    
+    /**
+     * Get URL glob limiting which requests are recorded and replayed
+     * @return URL glob, empty for all requests
+     */
+    public String getHarUrlPattern() {
+        return harUrlPattern;
+    }
+    
+    /**
+     * Check if requests missing from the HAR fall through to the network during replay
+     * @return true to fall through, false to abort the request
+     */
+    public boolean isHarFallbackEnabled() {
+        return harFallbackEnabled;
+    }
+    
+    /**
+     * Get path of the storage state file holding the accepted consent
+     * @return Storage state file path
+     */
+    public String getConsentStatePath() {
+        return consentStatePath;
+    }
+    
+    /**
+     * Check if parallel test execution is enabled
+     * @return true if parallel, false otherwise
+     */
+    public boolean isParallelEnabled() {
+        return parallelEnabled;
+    }
+    
+    /**
+     * Get number of worker threads for parallel test execution
+     * @return Thread count
+     */
+    public int getParallelThreadCount() {
+        return parallelThreadCount;
+    }
+    
+    /**
+     * Check if the log of each test is captured in memory and written out only on failure
+     * @return true if captured, false to log every event directly
+     */
+    public boolean isLogCaptureEnabled() {
+        return logCaptureEnabled;
+    }
+    
+    /**
+     * Get number of log events kept per test
+     * @return Buffer size
+     */
+    public int getLogCaptureBufferSize() {
+        return logCaptureBufferSize;
+    }
+    
+    /**
+     * Get directory of log files
+     * @return Log directory
+     */
+    public String getLogDir() {
+        return logDir;
+    }
+    
+    /**
+     * Check if the phases of each test are timed
+     * @return true if phase timings are recorded and reported
+     */
+    public boolean isPhaseTimingEnabled() {
+        return phaseTimingEnabled;
+    }
+    
+    /**
+     * Get directory of the phase timing reports
+     * @return Report directory
+     */
+    public String getPhaseTimingDir() {
+        return phaseTimingDir;
+    }
+    
+    /**
+     * Get source of a test data set: classpath:&lt;resource&gt;, file:&lt;path&gt; or generated:&lt;rows&gt;
+     * @param dataSet Data set name, read from data.&lt;dataSet&gt;
+     * @param defaultSource Source used when none is configured
+     * @return Data source
+     */
+    public String getDataSource(String dataSet, String defaultSource) {
+        return getProperty("data." + dataSet, defaultSource).trim();
+    }
+    
+    /**
+     * Get seed of generated test data
+     * @return Seed, the same seed generating the same rows
+     */
+    public long getDataSeed() {
+        return dataSeed;
+    }
+    
+    /**
+     * Get maximum number of rows read from a test data set
+     * @return Row limit, 0 for all rows
+     */
+    public long getDataRowsLimit() {
+        return dataRowsLimit;
+    }
+    
+    /**
+     * Get number of rows of a data provider handed to TestNG ahead of finished tests
+     * @return Rows in flight per data provider
+     */
+    public int getDataProviderWindow() {
+        return dataProviderWindow;
+    }
+    
+    /**
+     * Check if test methods of parallel tests are ordered by their durations in previous runs
+     * @return true if test durations are recorded and used for scheduling
+     */
+    public boolean isScheduleEnabled() {
+        return scheduleEnabled;
+    }
+    
+    /**
+     * Get file keeping the test durations of previous runs
+     * @return Test duration history file
+     */
+    public String getScheduleHistoryFile() {
+        return scheduleHistoryFile;
+    }
+    
+    /**
+     * Get load model
+     * @return open for a fixed arrival rate, closed for a fixed number of concurrent users
+     */
+    public String getLoadModel() {
+        return loadModel;
+    }
+    
+    /**
+     * Get target rate of flow iterations per second once ramped up; in the closed model it paces the users
+     * @return Target iterations per second, 0 for unpaced users in the closed model
+     */
+    public double getLoadTargetRps() {
+        return loadTargetRps;
+    }
+    
+    /**
+     * Get number of concurrent users of the closed model
+     * @return User count
+     */
+    public int getLoadUsers() {
+        return loadUsers;
+    }
+    
+    /**
+     * Get maximum number of flow iterations running at once in the open model
+     * @return Worker thread count
+     */
+    public int getLoadMaxConcurrency() {
+        return loadMaxConcurrency;
+    }
+    
+    /**
+     * Get ramp-up time to the target rate or user count
+     * @return Ramp-up in seconds
+     */
+    public long getLoadRampUpSeconds() {
+        return loadRampUpSeconds;
+    }
+    
+    /**
+     * Get duration of a load run, ramp-up included
+     * @return Duration in seconds
+     */
+    public long getLoadDurationSeconds() {
+        return loadDurationSeconds;
+    }
+    
+    /**
+     * Get share of failed flow iterations a load run tolerates
+     * @return Maximum error percentage
+     */
+    public double getLoadMaxErrorPercent() {
+        return loadMaxErrorPercent;
+    }
+    
+    /**
+     * Get directory of the load report
+     * @return Report directory
+     */
+    public String getLoadReportDir() {
+        return loadReportDir;
+    }
+    
+    /**
+     * Get number of browser contexts of the UI load mode
+     * @return Concurrent context count
+     */
+    public int getLoadUiContexts() {
+        return loadUiContexts;
+    }
+    
+    /**
+     * Get number of Chromium browsers the concurrent contexts of the UI load mode share
+     * @return Browser count
+     */
+    public int getLoadUiBrowsers() {
+        return loadUiBrowsers;
+    }
+    
+    /**
+     * Get pause of a context between two iterations of the UI load mode
+     * @return Think time in milliseconds
+     */
+    public long getLoadUiThinkMillis() {
+        return loadUiThinkMillis;
+    }
+    
+    /**
+     * Get property by key with default value.
+     * The value comes from the highest-precedence layer that defines the key.
      * @param key Property key
      * @param defaultValue Default value if key not found
      * @return Property value or default
      */
     public String getProperty(String key, String defaultValue) {
-        return properties.getProperty(key, defaultValue);
+        return properties.getOrDefault(key, defaultValue);
+    }
+    
+    private boolean parseBoolean(String key, String defaultValue) {
+        return Boolean.parseBoolean(getProperty(key, defaultValue).trim());
+    }
+    
+    private int parseInt(String key, String defaultValue) {
+        return Integer.parseInt(getProperty(key, defaultValue).trim());
+    }
+    
+    private long parseLong(String key, String defaultValue) {
+        return Long.parseLong(getProperty(key, defaultValue).trim());
+    }
+    
+    /**
+     * Parse all wait.timeout.&lt;page&gt;[.&lt;name&gt;] overrides, the page being the part before the first dot
+     * @return Immutable wait timeouts by page
+     */
+    private Map<String, PageWaitTimeouts> parseWaitTimeouts() {
+        Map<String, Integer> byPage = new HashMap<>();
+        Map<String, Map<String, Integer>> byPageAndName = new HashMap<>();
+        for (String key : properties.keySet()) {
+            if (!key.startsWith(WAIT_TIMEOUT_PREFIX)) {
+                continue;
+            }
+            String pageAndName = key.substring(WAIT_TIMEOUT_PREFIX.length());
+            int dot = pageAndName.indexOf('.');
+            if (dot < 0) {
+                byPage.put(pageAndName, parseInt(key, null));
+            } else {
+                byPageAndName.computeIfAbsent(pageAndName.substring(0, dot), page -> new HashMap<>())
+                        .put(pageAndName.substring(dot + 1), parseInt(key, null));
+            }
+        }
+        Set<String> pages = new HashSet<>(byPage.keySet());
+        pages.addAll(byPageAndName.keySet());
+        Map<String, PageWaitTimeouts> timeouts = new HashMap<>();
+        for (String page : pages) {
+            timeouts.put(page, new PageWaitTimeouts(byPage.getOrDefault(page, waitTimeout),
+                    byPageAndName.getOrDefault(page, Collections.emptyMap())));
+        }
+        return Collections.unmodifiableMap(timeouts);
+    }
+    
+    private String parseChoice(String key, String defaultValue, String... choices) {
+        String value = getProperty(key, defaultValue).trim().toLowerCase(Locale.ROOT);
+        for (String choice : choices) {
+            if (choice.equals(value)) {
+                return choice;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported " + key + ": " + value);
+    }
+    
+    /**
+     * Wait timeout of a page and its per element or condition overrides
+     */
+    private static final class PageWaitTimeouts {
+        private final int timeout;
+        private final Map<String, Integer> byName;
+        
+        private PageWaitTimeouts(int timeout, Map<String, Integer> byName) {
+            this.timeout = timeout;
+            this.byName = Collections.unmodifiableMap(new HashMap<>(byName));
+        }
     }
 }
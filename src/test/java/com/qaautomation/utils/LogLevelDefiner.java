@@ -0,0 +1,48 @@
+package com.qaautomation.utils;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.core.PropertyDefinerBase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Logback property definer that resolves a log level from the test configuration, so
+ * logback-test.xml honours the same layers as {@link ConfigReader} (config.properties,
+ * config-&lt;environment&gt;.properties, QA_ environment variables and system properties).
+ * With several keys the most verbose level that is set wins; with none set the level is INFO.
+ *
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class LogLevelDefiner extends PropertyDefinerBase {
+
+    private final List<String> keys = new ArrayList<>();
+
+    /**
+     * Add a configuration key holding a level, e.g. log.level
+     * @param key Configuration key
+     */
+    public void addKey(String key) {
+        keys.add(key.trim());
+    }
+
+    @Override
+    public String getPropertyValue() {
+        Map<String, String> configuration = ConfigLayers.merge(resource -> { });
+        Level level = null;
+        for (String key : keys) {
+            String value = configuration.get(key);
+            Level configured = value == null ? null : Level.toLevel(value.trim(), null);
+            if (configured == null) {
+                if (value != null) {
+                    addWarn("Ignoring unknown log level '" + value + "' of " + key);
+                }
+            } else if (level == null || configured.toInt() < level.toInt()) {
+                level = configured;
+            }
+        }
+        return (level == null ? Level.INFO : level).toString();
+    }
+}
@@ -3,15 +3,22 @@ package com.qaautomation.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Custom logging utility wrapper around SLF4J for consistent logging throughout the framework.
  * Provides convenient logging methods with automatic class context.
+ * Prefer the {} placeholder and Supplier overloads for messages with arguments:
+ * they build the message only when the level is enabled.
  * 
  * @author QA Framework Team
  * @version 1.0
  */
 public class LoggerUtil {
     
+    private static final Map<Class<?>, LoggerUtil> LOGGERS = new ConcurrentHashMap<>();
     private final Logger logger;
     
     /**
@@ -23,12 +30,12 @@ public class LoggerUtil {
     }
     
     /**
-     * Get logger instance for a specific class
+     * Get logger instance for a specific class, shared by all callers for that class
      * @param clazz The class to get logger for
      * @return LoggerUtil instance
      */
     public static LoggerUtil getLogger(Class<?> clazz) {
-        return new LoggerUtil(clazz);
+        return LOGGERS.computeIfAbsent(clazz, LoggerUtil::new);
     }
     
     /**
@@ -39,6 +46,52 @@ public class LoggerUtil {
         logger.info(message);
     }
     
+    /**
+     * Log info level message with one placeholder argument
+     * @param format Message with a {} placeholder
+     * @param arg Argument for the placeholder
+     */
+    public void info(String format, Object arg) {
+        logger.info(format, arg);
+    }
+    
+    /**
+     * Log info level message with two placeholder arguments
+     * @param format Message with {} placeholders
+     * @param arg1 First argument
+     * @param arg2 Second argument
+     */
+    public void info(String format, Object arg1, Object arg2) {
+        logger.info(format, arg1, arg2);
+    }
+    
+    /**
+     * Log info level message with any number of placeholder arguments
+     * @param format Message with {} placeholders
+     * @param args Arguments for the placeholders
+     */
+    public void info(String format, Object... args) {
+        logger.info(format, args);
+    }
+    
+    /**
+     * Log info level message built only if the level is enabled
+     * @param message Supplier of the message
+     */
+    public void info(Supplier<String> message) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message.get());
+        }
+    }
+    
+    /**
+     * Check if info level is enabled
+     * @return true if info messages are logged
+     */
+    public boolean isInfoEnabled() {
+        return logger.isInfoEnabled();
+    }
+    
     /**
      * Log debug level message
      * @param message The message to log
@@ -47,6 +100,52 @@ public class LoggerUtil {
         logger.debug(message);
     }
     
+    /**
+     * Log debug level message with one placeholder argument
+     * @param format Message with a {} placeholder
+     * @param arg Argument for the placeholder
+     */
+    public void debug(String format, Object arg) {
+        logger.debug(format, arg);
+    }
+    
+    /**
+     * Log debug level message with two placeholder arguments
+     * @param format Message with {} placeholders
+     * @param arg1 First argument
+     * @param arg2 Second argument
+     */
+    public void debug(String format, Object arg1, Object arg2) {
+        logger.debug(format, arg1, arg2);
+    }
+    
+    /**
+     * Log debug level message with any number of placeholder arguments
+     * @param format Message with {} placeholders
+     * @param args Arguments for the placeholders
+     */
+    public void debug(String format, Object... args) {
+        logger.debug(format, args);
+    }
+    
+    /**
+     * Log debug level message built only if the level is enabled
+     * @param message Supplier of the message
+     */
+    public void debug(Supplier<String> message) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message.get());
+        }
+    }
+    
+    /**
+     * Check if debug level is enabled
+     * @return true if debug messages are logged
+     */
+    public boolean isDebugEnabled() {
+        return logger.isDebugEnabled();
+    }
+    
     /**
      * Log warning level message
      * @param message The message to log
@@ -55,6 +154,52 @@ public class LoggerUtil {
         logger.warn(message);
     }
     
+    /**
+     * Log warn level message with one placeholder argument
+     * @param format Message with a {} placeholder
+     * @param arg Argument for the placeholder
+     */
+    public void warn(String format, Object arg) {
+        logger.warn(format, arg);
+    }
+    
+    /**
+     * Log warn level message with two placeholder arguments
+     * @param format Message with {} placeholders
+     * @param arg1 First argument
+     * @param arg2 Second argument
+     */
+    public void warn(String format, Object arg1, Object arg2) {
+        logger.warn(format, arg1, arg2);
+    }
+    
+    /**
+     * Log warn level message with any number of placeholder arguments
+     * @param format Message with {} placeholders
+     * @param args Arguments for the placeholders
+     */
+    public void warn(String format, Object... args) {
+        logger.warn(format, args);
+    }
+    
+    /**
+     * Log warn level message built only if the level is enabled
+     * @param message Supplier of the message
+     */
+    public void warn(Supplier<String> message) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message.get());
+        }
+    }
+    
+    /**
+     * Check if warn level is enabled
+     * @return true if warn messages are logged
+     */
+    public boolean isWarnEnabled() {
+        return logger.isWarnEnabled();
+    }
+    
     /**
      * Log error level message with exception
      * @param message The message to log
@@ -72,6 +217,52 @@ public class LoggerUtil {
         logger.error(message);
     }
     
+    /**
+     * Log error level message with one placeholder argument
+     * @param format Message with a {} placeholder
+     * @param arg Argument for the placeholder
+     */
+    public void error(String format, Object arg) {
+        logger.error(format, arg);
+    }
+    
+    /**
+     * Log error level message with two placeholder arguments
+     * @param format Message with {} placeholders
+     * @param arg1 First argument
+     * @param arg2 Second argument
+     */
+    public void error(String format, Object arg1, Object arg2) {
+        logger.error(format, arg1, arg2);
+    }
+    
+    /**
+     * Log error level message with any number of placeholder arguments
+     * @param format Message with {} placeholders
+     * @param args Arguments for the placeholders
+     */
+    public void error(String format, Object... args) {
+        logger.error(format, args);
+    }
+    
+    /**
+     * Log error level message built only if the level is enabled
+     * @param message Supplier of the message
+     */
+    public void error(Supplier<String> message) {
+        if (logger.isErrorEnabled()) {
+            logger.error(message.get());
+        }
+    }
+    
+    /**
+     * Check if error level is enabled
+     * @return true if error messages are logged
+     */
+    public boolean isErrorEnabled() {
+        return logger.isErrorEnabled();
+    }
+    
     /**
      * Log trace level message
      * @param message The message to log
@@ -79,4 +270,50 @@ public class LoggerUtil {
     public void trace(String message) {
         logger.trace(message);
     }
+    
+    /**
+     * Log trace level message with one placeholder argument
+     * @param format Message with a {} placeholder
+     * @param arg Argument for the placeholder
+     */
+    public void trace(String format, Object arg) {
+        logger.trace(format, arg);
+    }
+    
+    /**
+     * Log trace level message with two placeholder arguments
+     * @param format Message with {} placeholders
+     * @param arg1 First argument
+     * @param arg2 Second argument
+     */
+    public void trace(String format, Object arg1, Object arg2) {
+        logger.trace(format, arg1, arg2);
+    }
+    
+    /**
+     * Log trace level message with any number of placeholder arguments
+     * @param format Message with {} placeholders
+     * @param args Arguments for the placeholders
+     */
+    public void trace(String format, Object... args) {
+        logger.trace(format, args);
+    }
+    
+    /**
+     * Log trace level message built only if the level is enabled
+     * @param message Supplier of the message
+     */
+    public void trace(Supplier<String> message) {
+        if (logger.isTraceEnabled()) {
+            logger.trace(message.get());
+        }
+    }
+    
+    /**
+     * Check if trace level is enabled
+     * @return true if trace messages are logged
+     */
+    public boolean isTraceEnabled() {
+        return logger.isTraceEnabled();
+    }
 }
@@ -0,0 +1,277 @@
+package com.qaautomation.utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.Route;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Network policy that aborts requests the tests never assert on (ads, trackers, fonts, images).
+ * Requests are blocked by Playwright resource type or by URL glob pattern, both read from configuration.
+ * Blocked requests and loaded bytes are counted per browser context. Aborted requests never transfer
+ * a body, so the bytes saved are estimated from the average size of loaded responses of the same resource type.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class NetworkPolicy {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(NetworkPolicy.class);
+    private static final Map<BrowserContext, Stats> STATS = new ConcurrentHashMap<>();
+    // Loaded response sizes by resource type across all contexts of this JVM, the basis of the saved bytes estimate
+    private static final Map<String, ByteAverage> LOADED_BY_TYPE = new ConcurrentHashMap<>();
+
+    private final boolean enabled;
+    private final Set<String> blockedResourceTypes;
+    private final List<String> blockedUrlPatterns;
+    private final List<Pattern> blockedUrlRegexes = new ArrayList<>();
+
+    /**
+     * Constructor
+     * @param enabled Whether requests are blocked at all
+     * @param blockedResourceTypes Playwright resource types to abort (image, font, media, ...)
+     * @param blockedUrlPatterns URL glob patterns to abort
+     */
+    public NetworkPolicy(boolean enabled, Set<String> blockedResourceTypes, List<String> blockedUrlPatterns) {
+        this.enabled = enabled;
+        this.blockedResourceTypes = Collections.unmodifiableSet(new HashSet<>(blockedResourceTypes));
+        this.blockedUrlPatterns = Collections.unmodifiableList(new ArrayList<>(blockedUrlPatterns));
+        for (String pattern : blockedUrlPatterns) {
+            blockedUrlRegexes.add(globToRegex(pattern));
+        }
+    }
+
+    /**
+     * Create network policy from configuration
+     * @param config Configuration reader
+     * @return NetworkPolicy instance
+     */
+    public static NetworkPolicy fromConfig(ConfigReader config) {
+        return new NetworkPolicy(
+                config.isNetworkBlockingEnabled(),
+                new HashSet<>(splitList(config.getProperty("network.block.resource.types", ""))),
+                splitList(config.getProperty("network.block.url.patterns", "")));
+    }
+
+    /**
+     * Get network statistics of a browser context
+     * @param context Browser context the policy was installed on
+     * @return Stats instance, or null if no policy was installed
+     */
+    public static Stats statsFor(BrowserContext context) {
+        return STATS.get(context);
+    }
+
+    /**
+     * Install the policy on a browser context
+     * @param context Browser context
+     * @return Stats collected for the context
+     */
+    public Stats install(BrowserContext context) {
+        Stats stats = new Stats();
+        STATS.put(context, stats);
+        context.onClose(closed -> STATS.remove(closed));
+        context.onResponse(response -> stats.recordLoaded(response));
+
+        if (!enabled) {
+            return stats;
+        }
+
+        // Resource types are only known per request, so every request has to be intercepted.
+        // Plain URL globs are matched by Playwright itself and leave other requests untouched.
+        if (!blockedResourceTypes.isEmpty()) {
+            context.route("**/*", route -> handle(route, stats));
+        } else {
+            for (String pattern : blockedUrlPatterns) {
+                context.route(pattern, route -> abort(route, stats));
+            }
+        }
+        logger.debug("Network policy installed, resource types: {}, URL patterns: {}",
+                blockedResourceTypes, blockedUrlPatterns);
+        return stats;
+    }
+
+    private void handle(Route route, Stats stats) {
+        String resourceType = route.request().resourceType();
+        if (blockedResourceTypes.contains(resourceType) || matchesBlockedUrl(route.request().url())) {
+            abort(route, stats);
+        } else {
+            route.fallback();
+        }
+    }
+
+    private boolean matchesBlockedUrl(String url) {
+        for (Pattern regex : blockedUrlRegexes) {
+            if (regex.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Convert a Playwright URL glob to a regular expression:
+     * '**' matches any characters, '*' matches any characters except '/'
+     */
+    private static Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < glob.length(); i++) {
+            char c = glob.charAt(i);
+            if (c == '*') {
+                if (i + 1 < glob.length() && glob.charAt(i + 1) == '*') {
+                    regex.append(".*");
+                    i++;
+                } else {
+                    regex.append("[^/]*");
+                }
+            } else if (c == '?') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+
+    private void abort(Route route, Stats stats) {
+        stats.recordBlocked(route.request().resourceType());
+        logger.trace("Blocked request: {}", route.request().url());
+        route.abort("blockedbyclient");
+    }
+
+    private static List<String> splitList(String value) {
+        List<String> items = new ArrayList<>();
+        for (String item : Arrays.asList(value.split(","))) {
+            if (!item.trim().isEmpty()) {
+                items.add(item.trim());
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Network statistics of one browser context
+     */
+    public static class Stats {
+        private final LongAdder blockedRequests = new LongAdder();
+        private final LongAdder loadedRequests = new LongAdder();
+        private final LongAdder loadedBytes = new LongAdder();
+        private final Map<String, LongAdder> blockedByType = new ConcurrentHashMap<>();
+
+        void recordBlocked(String resourceType) {
+            blockedRequests.increment();
+            blockedByType.computeIfAbsent(resourceType, type -> new LongAdder()).increment();
+        }
+
+        void recordLoaded(Response response) {
+            loadedRequests.increment();
+            // headers() and request() are served from the event payload, so this costs no extra round trip
+            String contentLength = response.headers().get("content-length");
+            if (contentLength != null) {
+                try {
+                    long bytes = Long.parseLong(contentLength.trim());
+                    loadedBytes.add(bytes);
+                    LOADED_BY_TYPE.computeIfAbsent(response.request().resourceType(), type -> new ByteAverage())
+                            .add(bytes);
+                } catch (NumberFormatException e) {
+                    logger.trace("Invalid content-length: {}", contentLength);
+                }
+            }
+        }
+
+        /**
+         * Get the number of requests aborted by the policy
+         * @return Blocked requests
+         */
+        public long getBlockedRequests() {
+            return blockedRequests.sum();
+        }
+
+        /**
+         * Get the number of responses received
+         * @return Loaded requests
+         */
+        public long getLoadedRequests() {
+            return loadedRequests.sum();
+        }
+
+        /**
+         * Get the bytes received, from the Content-Length of the responses that declare one
+         * @return Loaded bytes
+         */
+        public long getLoadedBytes() {
+            return loadedBytes.sum();
+        }
+
+        /**
+         * Get the estimated bytes not downloaded: blocked requests times the average loaded size of their type
+         * @return Estimated saved bytes
+         */
+        public long getEstimatedSavedBytes() {
+            long bytes = 0;
+            for (Map.Entry<String, LongAdder> entry : blockedByType.entrySet()) {
+                ByteAverage average = LOADED_BY_TYPE.get(entry.getKey());
+                if (average != null) {
+                    bytes += entry.getValue().sum() * average.get();
+                }
+            }
+            return bytes;
+        }
+
+        /**
+         * Get the blocked requests left out of the estimate, as no response of their type was loaded yet
+         * @return Blocked requests without estimate
+         */
+        public long getUnestimatedBlockedRequests() {
+            long requests = 0;
+            for (Map.Entry<String, LongAdder> entry : blockedByType.entrySet()) {
+                if (!LOADED_BY_TYPE.containsKey(entry.getKey())) {
+                    requests += entry.getValue().sum();
+                }
+            }
+            return requests;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder byType = new StringBuilder();
+            for (Map.Entry<String, LongAdder> entry : blockedByType.entrySet()) {
+                if (byType.length() > 0) {
+                    byType.append(", ");
+                }
+                byType.append(entry.getKey()).append('=').append(entry.getValue().sum());
+            }
+            return "blocked " + getBlockedRequests() + " requests [" + byType + "], ~" + getEstimatedSavedBytes()
+                    + " bytes saved (" + getUnestimatedBlockedRequests() + " requests not estimated), loaded "
+                    + getLoadedRequests() + " requests / " + getLoadedBytes() + " bytes";
+        }
+    }
+
+    /**
+     * Running average of loaded response sizes
+     */
+    private static final class ByteAverage {
+        private final LongAdder responses = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        void add(long size) {
+            bytes.add(size);
+            responses.increment();
+        }
+
+        long get() {
+            long count = responses.sum();
+            return count == 0 ? 0 : bytes.sum() / count;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.qaautomation.utils;
+
+import com.google.gson.GsonBuilder;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of a test run (browser launch, context creation, navigation, waits,
+ * API requests, teardown, ...) with the monotonic clock.
+ * Durations are aggregated into histograms per phase and per test and written as JSON and
+ * OpenMetrics text at the end of the suite. Recording a phase costs one histogram update
+ * and a map lookup, so timing stays on in every run unless phase.timing.enabled=false.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public final class PhaseTimer {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(PhaseTimer.class);
+    private static final boolean ENABLED = ConfigReader.getInstance().isPhaseTimingEnabled();
+    private static final String NO_TEST = "(suite)";
+    private static final double[] QUANTILES = {50, 95, 99};
+
+    private static final Map<String, Histogram> PHASES = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> TESTS = new ConcurrentHashMap<>();
+    private static final ThreadLocal<TestTimings> CURRENT_TEST = new ThreadLocal<>();
+
+    private PhaseTimer() {
+    }
+
+    /**
+     * Check if phase timing is enabled
+     * @return true if phases are recorded
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Record a phase that started at the given time and ends now
+     * @param phase Phase name
+     * @param startNanos Start time from System.nanoTime()
+     */
+    public static void record(String phase, long startNanos) {
+        if (!ENABLED) {
+            return;
+        }
+        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        PHASES.computeIfAbsent(phase, key -> new ConcurrentHistogram(3)).recordValue(micros);
+        TestTimings test = CURRENT_TEST.get();
+        String testName = test == null ? NO_TEST : test.name;
+        TESTS.computeIfAbsent(testName, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, key -> new ConcurrentHistogram(3))
+                .recordValue(micros);
+        if (test != null) {
+            test.add(phase, micros);
+        }
+    }
+
+    /**
+     * Time an action as a phase
+     * @param phase Phase name
+     * @param action Action to run
+     */
+    public static void time(String phase, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            record(phase, start);
+        }
+    }
+
+    /**
+     * Time an action with a result as a phase
+     * @param phase Phase name
+     * @param action Action to run
+     * @param <T> Result type
+     * @return Result of the action
+     */
+    public static <T> T time(String phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            record(phase, start);
+        }
+    }
+
+    /**
+     * Attribute the phases recorded by the current thread to a test
+     * @param testName Test name, e.g. SubmitTest.testSuccessfulSubmit
+     */
+    public static void beginTest(String testName) {
+        if (ENABLED) {
+            CURRENT_TEST.set(new TestTimings(testName));
+        }
+    }
+
+    /**
+     * Describe the phases recorded so far for the test of the current thread
+     * @return Phase durations of this test invocation, one line per phase, or null outside a test
+     */
+    public static String describeCurrentTest() {
+        TestTimings test = CURRENT_TEST.get();
+        return test == null ? null : test.format();
+    }
+
+    /**
+     * Stop attributing phases of the current thread to a test
+     */
+    public static void endTest() {
+        CURRENT_TEST.remove();
+    }
+
+    /**
+     * Write the phase summary as JSON and OpenMetrics text
+     * @param jsonFile JSON output file
+     * @param openMetricsFile OpenMetrics output file
+     */
+    public static void writeReports(Path jsonFile, Path openMetricsFile) {
+        if (!ENABLED || PHASES.isEmpty()) {
+            return;
+        }
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("phases", summarize(PHASES));
+        Map<String, Object> tests = new TreeMap<>();
+        TESTS.forEach((test, phases) -> tests.put(test, summarize(phases)));
+        summary.put("tests", tests);
+
+        StringBuilder metrics = new StringBuilder();
+        metrics.append("# TYPE qa_phase_duration_seconds summary\n");
+        metrics.append("# UNIT qa_phase_duration_seconds seconds\n");
+        metrics.append("# HELP qa_phase_duration_seconds Duration of test run phases.\n");
+        new TreeMap<>(PHASES).forEach((phase, histogram) -> appendSummary(metrics, "phase=\"" + escape(phase) + "\"",
+                histogram.copy()));
+        new TreeMap<>(TESTS).forEach((test, phases) -> new TreeMap<>(phases).forEach((phase, histogram) ->
+                appendSummary(metrics, "test=\"" + escape(test) + "\",phase=\"" + escape(phase) + "\"",
+                        histogram.copy())));
+        metrics.append("# EOF\n");
+
+        try {
+            Files.createDirectories(jsonFile.toAbsolutePath().getParent());
+            Files.createDirectories(openMetricsFile.toAbsolutePath().getParent());
+            Files.write(jsonFile, new GsonBuilder().setPrettyPrinting().create().toJson(summary)
+                    .getBytes(StandardCharsets.UTF_8));
+            Files.write(openMetricsFile, metrics.toString().getBytes(StandardCharsets.UTF_8));
+            logger.info("Phase timings written to {} and {}", jsonFile, openMetricsFile);
+        } catch (IOException e) {
+            logger.warn("Could not write phase timings: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Get a copy of the histogram of a phase
+     * @param phase Phase name
+     * @return Histogram in microseconds, or null if the phase was never recorded
+     */
+    public static Histogram getHistogram(String phase) {
+        Histogram histogram = PHASES.get(phase);
+        return histogram == null ? null : histogram.copy();
+    }
+
+    private static Map<String, Object> summarize(Map<String, Histogram> phases) {
+        Map<String, Object> summary = new TreeMap<>();
+        phases.forEach((phase, recorded) -> {
+            Histogram histogram = recorded.copy();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", histogram.getTotalCount());
+            stats.put("p50_ms", millis(histogram.getValueAtPercentile(50)));
+            stats.put("p95_ms", millis(histogram.getValueAtPercentile(95)));
+            stats.put("p99_ms", millis(histogram.getValueAtPercentile(99)));
+            stats.put("max_ms", millis(histogram.getMaxValue()));
+            stats.put("total_ms", millis(Math.round(histogram.getMean() * histogram.getTotalCount())));
+            summary.put(phase, stats);
+        });
+        return summary;
+    }
+
+    private static void appendSummary(StringBuilder metrics, String labels, Histogram histogram) {
+        for (double quantile : QUANTILES) {
+            metrics.append("qa_phase_duration_seconds{").append(labels)
+                    .append(",quantile=\"").append(quantile / 100).append("\"} ")
+                    .append(seconds(histogram.getValueAtPercentile(quantile))).append('\n');
+        }
+        metrics.append("qa_phase_duration_seconds_count{").append(labels).append("} ")
+                .append(histogram.getTotalCount()).append('\n');
+        metrics.append("qa_phase_duration_seconds_sum{").append(labels).append("} ")
+                .append(seconds(Math.round(histogram.getMean() * histogram.getTotalCount()))).append('\n');
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String seconds(long micros) {
+        return String.format(Locale.ROOT, "%.6f", micros / 1_000_000.0);
+    }
+
+    private static String escape(String label) {
+        return label.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Phase durations of one test invocation, in recording order
+     */
+    private static final class TestTimings {
+        private final String name;
+        private final Map<String, long[]> phases = new LinkedHashMap<>();
+
+        private TestTimings(String name) {
+            this.name = name;
+        }
+
+        private void add(String phase, long micros) {
+            long[] totals = phases.computeIfAbsent(phase, key -> new long[2]);
+            totals[0]++;
+            totals[1] += micros;
+        }
+
+        private String format() {
+            StringBuilder text = new StringBuilder(name).append('\n');
+            phases.forEach((phase, totals) -> text.append(String.format(Locale.ROOT, "%-24s %5d x %10.1f ms%n",
+                    phase, totals[0], millis(totals[1]))));
+            return text.toString();
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.qaautomation.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Client-side token bucket rate limiter for one API host.
+ * Requests above the configured rate wait for a permit, and the host can be paused
+ * when the server reports an exhausted quota (429, Retry-After, X-RateLimit-* headers).
+ * All API clients pointing at the same host share one limiter.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class RateLimiter {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(RateLimiter.class);
+    private static final Map<String, RateLimiter> LIMITERS_BY_HOST = new ConcurrentHashMap<>();
+
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+    // X-RateLimit-Reset values above this are epoch seconds, below it seconds until reset
+    private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L;
+
+    private final String host;
+    private final long intervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final boolean passThrough;
+
+    // Theoretical arrival time of the next request and end of a server requested pause
+    private long nextFreeNanos = System.nanoTime();
+    private long pausedUntilNanos = nextFreeNanos;
+
+    private final LongAdder waitCount = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final LongAccumulator maxWaitMillis = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Constructor
+     * @param host Host the limiter applies to
+     * @param permitsPerSecond Sustained request rate, 0 or less for no client-side limit
+     * @param burst Number of requests allowed back to back before the rate applies
+     * @param maxRetries Number of retries of a request rejected with 429
+     * @param initialBackoffMillis First backoff after a 429 without Retry-After, doubled on every retry
+     * @param maxBackoffMillis Upper bound of the backoff
+     */
+    public RateLimiter(String host, double permitsPerSecond, int burst,
+                       int maxRetries, long initialBackoffMillis, long maxBackoffMillis) {
+        this.host = host;
+        this.intervalNanos = permitsPerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0;
+        this.burstToleranceNanos = intervalNanos * Math.max(0, burst - 1);
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.maxBackoffMillis = maxBackoffMillis;
+        this.passThrough = false;
+    }
+
+    private RateLimiter(String host) {
+        this.host = host;
+        this.intervalNanos = 0;
+        this.burstToleranceNanos = 0;
+        this.maxRetries = 0;
+        this.initialBackoffMillis = 0;
+        this.maxBackoffMillis = 0;
+        this.passThrough = true;
+    }
+
+    /**
+     * Create a limiter that never holds back or retries a request: no client-side rate, no pause
+     * for 429 or X-RateLimit headers. Used by load runs, which measure the service as it answers.
+     * @param host API host
+     * @return RateLimiter instance, not shared with other clients of the host
+     */
+    public static RateLimiter passThrough(String host) {
+        return new RateLimiter(host);
+    }
+
+    /**
+     * Get the shared rate limiter of a host, creating it from configuration on first use
+     * @param host API host
+     * @param config Configuration reader
+     * @return RateLimiter instance
+     */
+    public static RateLimiter forHost(String host, ConfigReader config) {
+        return LIMITERS_BY_HOST.computeIfAbsent(host, key -> new RateLimiter(key,
+                config.isApiRateLimitEnabled() ? config.getApiRateLimitPermitsPerSecond() : 0,
+                config.getApiRateLimitBurst(),
+                config.getApiRetryMaxAttempts(),
+                config.getApiRetryInitialBackoffMillis(),
+                config.getApiRetryMaxBackoffMillis()));
+    }
+
+    /**
+     * Lift the client-side rate limit of a host for all clients created from now on.
+     * 429 responses are still retried with the configured backoff.
+     * @param host API host
+     * @param config Configuration reader
+     */
+    public static void removeLimit(String host, ConfigReader config) {
+        LIMITERS_BY_HOST.put(host, new RateLimiter(host, 0, 1,
+                config.getApiRetryMaxAttempts(),
+                config.getApiRetryInitialBackoffMillis(),
+                config.getApiRetryMaxBackoffMillis()));
+        logger.info("Client-side rate limit of {} removed", host);
+    }
+
+    /**
+     * Reserve the next permit without blocking
+     * @return Nanoseconds the caller has to wait before sending the request
+     */
+    public synchronized long reserve() {
+        long now = System.nanoTime();
+        long earliest = Math.max(nextFreeNanos - burstToleranceNanos, pausedUntilNanos);
+        long start = Math.max(now, earliest);
+        nextFreeNanos = Math.max(nextFreeNanos, start) + intervalNanos;
+        return start - now;
+    }
+
+    /**
+     * Wait until the next permit is available
+     * @return Milliseconds waited
+     */
+    public long acquire() {
+        long waitNanos = reserve();
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for rate limit of " + host, e);
+            }
+        }
+        return recordWait(waitNanos);
+    }
+
+    /**
+     * Hold back all requests to the host for the given time
+     * @param millis Pause in milliseconds
+     */
+    public synchronized void pauseFor(long millis) {
+        long until = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        if (until - pausedUntilNanos > 0) {
+            pausedUntilNanos = until;
+            logger.info("Requests to {} paused for {}ms", host, millis);
+        }
+    }
+
+    /**
+     * Apply the rate limit information of a response.
+     * An exhausted X-RateLimit quota pauses the host until the reset time; a 429 response
+     * pauses it for Retry-After, or for an exponential backoff when the header is missing.
+     * @param statusCode HTTP status code of the response
+     * @param headers Header lookup of the response, returning null for missing headers
+     * @param attempt Number of the attempt that produced the response, starting at 1
+     * @return true if the request should be sent again
+     */
+    public boolean handleResponse(int statusCode, Function<String, String> headers, int attempt) {
+        if (passThrough) {
+            return false;
+        }
+        String remaining = headers.apply("X-RateLimit-Remaining");
+        String reset = headers.apply("X-RateLimit-Reset");
+        if ("0".equals(remaining != null ? remaining.trim() : null) && reset != null) {
+            long resetMillis = parseResetMillis(reset.trim());
+            if (resetMillis > 0) {
+                pauseFor(resetMillis);
+            }
+        }
+
+        if (statusCode != HTTP_TOO_MANY_REQUESTS) {
+            return false;
+        }
+        if (attempt > maxRetries) {
+            logger.warn("Giving up on {} after {} attempts with 429 Too Many Requests", host, attempt);
+            return false;
+        }
+        long retryAfterMillis = parseRetryAfterMillis(headers.apply("Retry-After"));
+        pauseFor(retryAfterMillis >= 0 ? retryAfterMillis : backoffMillis(attempt));
+        return true;
+    }
+
+    private long backoffMillis(int attempt) {
+        long backoff = Math.min(maxBackoffMillis, initialBackoffMillis << Math.min(attempt - 1, 30));
+        // Jitter keeps parallel clients from retrying in lockstep
+        return backoff + ThreadLocalRandom.current().nextLong(backoff / 5 + 1);
+    }
+
+    private static long parseRetryAfterMillis(String retryAfter) {
+        if (retryAfter == null || retryAfter.trim().isEmpty()) {
+            return -1;
+        }
+        String value = retryAfter.trim();
+        try {
+            return TimeUnit.SECONDS.toMillis(Long.parseLong(value));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+                return Math.max(0, Duration.between(ZonedDateTime.now(date.getZone()), date).toMillis());
+            } catch (DateTimeParseException ex) {
+                logger.debug("Invalid Retry-After header: {}", value);
+                return -1;
+            }
+        }
+    }
+
+    private static long parseResetMillis(String reset) {
+        try {
+            long value = Long.parseLong(reset);
+            if (value > EPOCH_SECONDS_THRESHOLD) {
+                return TimeUnit.SECONDS.toMillis(value) - System.currentTimeMillis();
+            }
+            return TimeUnit.SECONDS.toMillis(value);
+        } catch (NumberFormatException e) {
+            logger.debug("Invalid X-RateLimit-Reset header: {}", reset);
+            return -1;
+        }
+    }
+
+    /**
+     * Record a wait for the statistics of this limiter
+     * @param waitNanos Nanoseconds waited
+     * @return Milliseconds waited
+     */
+    long recordWait(long waitNanos) {
+        long waitMillis = TimeUnit.NANOSECONDS.toMillis(waitNanos);
+        if (waitNanos > 0) {
+            waitCount.increment();
+            totalWaitMillis.add(waitMillis);
+            maxWaitMillis.accumulate(waitMillis);
+        }
+        return waitMillis;
+    }
+
+    /**
+     * Get total time requests waited on this limiter
+     * @return Total wait in milliseconds
+     */
+    public long getTotalWaitMillis() {
+        return totalWaitMillis.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimiter[" + host + "]: " + waitCount.sum() + " waits, total "
+                + totalWaitMillis.sum() + "ms, max " + maxWaitMillis.get() + "ms";
+    }
+}
@@ -0,0 +1,120 @@
+package com.qaautomation.utils;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Measured durations of test methods over previous runs, stored as JSON by qualified method name.
+ * A new measurement is averaged with the stored value, so one unusually slow or fast run only
+ * moves the estimate halfway.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class TestDurationHistory {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(TestDurationHistory.class);
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    private final Path file;
+    private final Map<String, Long> durations;
+
+    private TestDurationHistory(Path file, Map<String, Long> durations) {
+        this.file = file;
+        this.durations = durations;
+    }
+
+    /**
+     * Load the history from a file
+     * @param file History file
+     * @return History, empty if the file does not exist or cannot be read
+     */
+    public static TestDurationHistory load(Path file) {
+        Map<String, Long> durations = new TreeMap<>();
+        if (Files.exists(file)) {
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                Map<String, Long> stored = GSON.fromJson(reader, new TypeToken<Map<String, Long>>() { }.getType());
+                if (stored != null) {
+                    durations.putAll(stored);
+                }
+            } catch (IOException | JsonParseException e) {
+                logger.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+            }
+        }
+        return new TestDurationHistory(file, durations);
+    }
+
+    /**
+     * Check if any duration is known
+     * @return true if the history is empty
+     */
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    /**
+     * Get the estimated duration of a test method
+     * @param method Qualified method name
+     * @return Duration in milliseconds, empty if the method has no history
+     */
+    public OptionalLong getDuration(String method) {
+        Long duration = durations.get(method);
+        return duration == null ? OptionalLong.empty() : OptionalLong.of(duration);
+    }
+
+    /**
+     * Get the mean of all known durations, the estimate of methods without history
+     * @return Mean duration in milliseconds, 0 if the history is empty
+     */
+    public long getMeanDuration() {
+        return Math.round(durations.values().stream().mapToLong(Long::longValue).average().orElse(0));
+    }
+
+    /**
+     * Merge the durations measured in a run
+     * @param measured Duration in milliseconds by qualified method name
+     */
+    public void update(Map<String, Long> measured) {
+        measured.forEach((method, duration) -> durations.merge(method, duration, (old, now) -> (old + now) / 2));
+    }
+
+    /**
+     * Get all durations
+     * @return Unmodifiable view of the durations in milliseconds by qualified method name
+     */
+    public Map<String, Long> getDurations() {
+        return Collections.unmodifiableMap(durations);
+    }
+
+    /**
+     * Write the history back to its file, replacing it atomically
+     */
+    public void save() {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "durations", ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                GSON.toJson(durations, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Test duration history of {} methods written to {}", durations.size(), file);
+        } catch (IOException e) {
+            logger.warn("Could not write test duration history {}: {}", file, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,194 @@
+package com.qaautomation.utils;
+
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+import org.slf4j.MDC;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logback appender that keeps the log events of a running test in a bounded in-memory buffer.
+ * Events carry the test correlation ID in the MDC key {@value #TEST_ID_KEY}; events of a test
+ * without an open capture, and events logged outside tests, go to the attached appenders.
+ * Captures are opened and closed through {@link #startCapture} and {@link #finishCapture}.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class TestLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    public static final String TEST_ID_KEY = "testId";
+
+    private static final Map<String, Buffer> CAPTURES = new ConcurrentHashMap<>();
+    private static volatile PatternLayout activeLayout;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private String pattern = "%d{HH:mm:ss.SSS} [%thread] %-5level %logger{36} - %msg%n";
+
+    /**
+     * Open a capture for a test and tag the current thread with its correlation ID
+     * @param testId Test correlation ID
+     * @param bufferSize Maximum number of events kept, older events are dropped first
+     */
+    public static void startCapture(String testId, int bufferSize) {
+        CAPTURES.put(testId, new Buffer(bufferSize));
+        MDC.put(TEST_ID_KEY, testId);
+    }
+
+    /**
+     * Close the capture of a test and untag the current thread
+     * @param testId Test correlation ID
+     * @return Captured log, formatted with the appender pattern, or null if no capture was open
+     */
+    public static CapturedLog finishCapture(String testId) {
+        if (testId.equals(MDC.get(TEST_ID_KEY))) {
+            MDC.remove(TEST_ID_KEY);
+        }
+        Buffer buffer = CAPTURES.remove(testId);
+        return buffer == null ? null : buffer.snapshot();
+    }
+
+    /**
+     * Set the pattern used to format captured events
+     * @param pattern Logback pattern
+     */
+    public void setPattern(String pattern) {
+        this.pattern = pattern;
+    }
+
+    @Override
+    public void start() {
+        PatternLayout layout = new PatternLayout();
+        layout.setContext(getContext());
+        layout.setPattern(pattern);
+        layout.start();
+        activeLayout = layout;
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        appenders.detachAndStopAllAppenders();
+        super.stop();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        String testId = event.getMDCPropertyMap().get(TEST_ID_KEY);
+        Buffer buffer = testId == null ? null : CAPTURES.get(testId);
+        if (buffer == null) {
+            appenders.appendLoopOnAppenders(event);
+            return;
+        }
+        // Message arguments and thread name are resolved now, the event is formatted only on failure
+        event.prepareForDeferredProcessing();
+        buffer.add(event);
+    }
+
+    /**
+     * Bounded buffer of the events of one test
+     */
+    private static final class Buffer {
+        private final int capacity;
+        private final ArrayDeque<ILoggingEvent> events = new ArrayDeque<>();
+        private int dropped;
+
+        private Buffer(int capacity) {
+            this.capacity = Math.max(1, capacity);
+        }
+
+        private synchronized void add(ILoggingEvent event) {
+            if (events.size() == capacity) {
+                events.removeFirst();
+                dropped++;
+            }
+            events.addLast(event);
+        }
+
+        private synchronized CapturedLog snapshot() {
+            return new CapturedLog(new ArrayList<>(events), dropped);
+        }
+    }
+
+    /**
+     * Log events captured for one test
+     */
+    public static final class CapturedLog {
+        private final List<ILoggingEvent> events;
+        private final int dropped;
+
+        private CapturedLog(List<ILoggingEvent> events, int dropped) {
+            this.events = events;
+            this.dropped = dropped;
+        }
+
+        /**
+         * Get number of captured events, including dropped ones
+         * @return Event count
+         */
+        public int getEventCount() {
+            return events.size() + dropped;
+        }
+
+        /**
+         * Format the captured events
+         * @return Log text
+         */
+        public String format() {
+            PatternLayout layout = activeLayout;
+            StringBuilder text = new StringBuilder();
+            if (dropped > 0) {
+                text.append("... ").append(dropped).append(" earlier events dropped\n");
+            }
+            for (ILoggingEvent event : events) {
+                text.append(layout != null ? layout.doLayout(event) : event.getFormattedMessage() + "\n");
+            }
+            return text.toString();
+        }
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,175 @@
+package com.qaautomation.utils;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Tracing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Records Playwright traces per test as trace chunks.
+ * Tracing starts once per browser context and every test gets its own chunk; depending on
+ * trace.mode a chunk is kept for failed tests only, for every test, or tracing is off.
+ * The zip of a kept chunk is written on the test thread: Playwright objects may only be used
+ * from the thread that created them, so the driver call cannot be handed off. Only the storage
+ * housekeeping runs on a background thread: the written zip is checked against the size cap,
+ * moved into trace.dir and the directory pruned to the retention limits.
+ * 
+ * @author QA Framework Team
+ * @version 1.0
+ */
+public class TraceRecorder {
+
+    private static final LoggerUtil logger = LoggerUtil.getLogger(TraceRecorder.class);
+    private static final long BYTES_PER_MB = 1024L * 1024L;
+    private static final String PENDING_DIR = ".pending";
+
+    private static final ExecutorService WRITER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "trace-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Set<BrowserContext> TRACED_CONTEXTS = ConcurrentHashMap.newKeySet();
+
+    private final ConfigReader config;
+
+    /**
+     * Constructor
+     * @param config Configuration reader
+     */
+    public TraceRecorder(ConfigReader config) {
+        this.config = config;
+    }
+
+    /**
+     * Check if traces are recorded at all
+     * @return false when trace.mode is off
+     */
+    public boolean isEnabled() {
+        return !ConfigReader.TRACE_MODE_OFF.equals(config.getTraceMode());
+    }
+
+    /**
+     * Start tracing on a context, if not yet started, and open the chunk of a test
+     * @param context Browser context
+     * @param testName Test name, used as chunk title
+     */
+    public void startChunk(BrowserContext context, String testName) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (TRACED_CONTEXTS.add(context)) {
+            context.onClose(TRACED_CONTEXTS::remove);
+            context.tracing().start(new Tracing.StartOptions()
+                    .setScreenshots(config.isTraceScreenshotsEnabled())
+                    .setSnapshots(config.isTraceSnapshotsEnabled())
+                    .setSources(config.isTraceSourcesEnabled()));
+        }
+        context.tracing().startChunk(new Tracing.StartChunkOptions().setTitle(testName));
+    }
+
+    /**
+     * Close the chunk of a test, keeping it if the test failed or trace.mode is always
+     * @param context Browser context
+     * @param testName Test name, used for the trace file name
+     * @param failed Whether the test failed
+     */
+    public void stopChunk(BrowserContext context, String testName, boolean failed) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!failed && !ConfigReader.TRACE_MODE_ALWAYS.equals(config.getTraceMode())) {
+            // Without a path the chunk is discarded by the driver
+            context.tracing().stopChunk();
+            return;
+        }
+
+        Path traceDir = Paths.get(config.getTraceDir());
+        String fileName = testName + "-" + System.currentTimeMillis() + ".zip";
+        Path pending = traceDir.resolve(PENDING_DIR).resolve(fileName);
+        // Synchronous: the driver writes the whole zip before returning
+        context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(pending));
+        WRITER.execute(() -> store(pending, traceDir.resolve(fileName)));
+    }
+
+    /**
+     * Wait for traces still being stored by the background thread
+     */
+    public static void awaitPendingWrites() {
+        // The writer is single-threaded, so a marker task completes after every earlier write
+        try {
+            WRITER.submit(() -> { }).get(60, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("Traces still being written: {}", e.toString());
+        }
+    }
+
+    private void store(Path pending, Path target) {
+        try {
+            long size = Files.size(pending);
+            long maxFileBytes = config.getTraceMaxFileMb() * BYTES_PER_MB;
+            if (maxFileBytes > 0 && size > maxFileBytes) {
+                Files.delete(pending);
+                logger.warn("Trace {} dropped: {} MB exceeds trace.max.file.mb", target.getFileName(),
+                        size / BYTES_PER_MB);
+                return;
+            }
+            Files.move(pending, target, StandardCopyOption.REPLACE_EXISTING);
+            logger.info("Trace saved to: {}", target);
+            prune(target.getParent());
+        } catch (IOException e) {
+            logger.warn("Could not store trace {}: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * Delete the oldest traces beyond trace.retention.count or trace.max.total.mb
+     * @param traceDir Trace directory
+     */
+    private void prune(Path traceDir) throws IOException {
+        List<Path> traces;
+        try (Stream<Path> files = Files.list(traceDir)) {
+            traces = files.filter(file -> file.getFileName().toString().endsWith(".zip"))
+                    .sorted(Comparator.comparingLong(TraceRecorder::lastModified).reversed())
+                    .collect(Collectors.toList());
+        }
+        int retentionCount = config.getTraceRetentionCount();
+        long maxTotalBytes = config.getTraceMaxTotalMb() * BYTES_PER_MB;
+        long totalBytes = 0;
+        for (int i = 0; i < traces.size(); i++) {
+            Path trace = traces.get(i);
+            totalBytes += Files.size(trace);
+            boolean overCount = retentionCount > 0 && i >= retentionCount;
+            boolean overSize = maxTotalBytes > 0 && totalBytes > maxTotalBytes && i > 0;
+            if (overCount || overSize) {
+                Files.deleteIfExists(trace);
+                logger.debug("Old trace deleted: {}", trace);
+            }
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
@@ -1,11 +1,26 @@
 package com.qaautomation.utils;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /**
  * Wait helper utility for handling explicit waits in Playwright.
  * Provides methods for waiting on elements, conditions, and transitions.
+ * Waits rely on Playwright's locator auto-waiting and condition polling rather than sleeps.
+ * Timeouts come from config: wait.timeout.&lt;page&gt;.&lt;name&gt;, then wait.timeout.&lt;page&gt;, then wait.timeout.
+ * The duration of every wait is recorded in a histogram per page and name, see {@link #logWaitStatistics()}.
  * 
  * @author QA Framework Team
  * @version 1.0
@@ -13,39 +28,74 @@ import com.microsoft.playwright.PlaywrightException;
 public class WaitHelper {
     
     private static final LoggerUtil logger = LoggerUtil.getLogger(WaitHelper.class);
-    private static final int DEFAULT_TIMEOUT = 30000; // 30 seconds in milliseconds
+    private static final String DEFAULT_PAGE = "default";
+    private static final String NAVIGATION = "navigation";
+    // Waits whose p95 reaches this share of their timeout are reported as close to the timeout
+    private static final double NEAR_TIMEOUT_RATIO = 0.8;
+    
+    private static final Map<String, Integer> TIMEOUTS = new ConcurrentHashMap<>();
+    private static final Map<String, WaitStats> STATS = new ConcurrentHashMap<>();
     
     /**
-     * Wait for an element to be visible
+     * Wait for a locator to be visible
+     * @param locator Locator of the element
+     * @param pageName Logical page name used for timeout lookup and telemetry
+     * @param name Logical element name used for timeout lookup and telemetry
+     */
+    public static void waitForVisible(Locator locator, String pageName, String name) {
+        waitForState(locator, WaitForSelectorState.VISIBLE, pageName, name);
+    }
+    
+    /**
+     * Wait for a locator to be hidden or detached
+     * @param locator Locator of the element
+     * @param pageName Logical page name used for timeout lookup and telemetry
+     * @param name Logical element name used for timeout lookup and telemetry
+     */
+    public static void waitForHidden(Locator locator, String pageName, String name) {
+        waitForState(locator, WaitForSelectorState.HIDDEN, pageName, name);
+    }
+    
+    /**
+     * Wait until a condition holds. The condition is re-evaluated by Playwright while it
+     * processes browser events, so no thread sleeps between checks.
      * @param page Playwright page instance
-     * @param selector CSS selector of element
+     * @param pageName Logical page name used for timeout lookup and telemetry
+     * @param name Logical condition name used for timeout lookup and telemetry
+     * @param condition Condition to wait for
      */
-    public static void waitForElementVisible(Page page, String selector) {
-        logger.info("Waiting for element to be visible: " + selector);
+    public static void waitForCondition(Page page, String pageName, String name, BooleanSupplier condition) {
+        int timeout = getTimeout(pageName, name);
+        logger.debug("Waiting for condition: {}.{}", pageName, name);
+        long start = System.nanoTime();
+        boolean timedOut = false;
         try {
-            page.waitForSelector(selector, new Page.WaitForSelectorOptions().setTimeout(DEFAULT_TIMEOUT));
-            logger.debug("Element is visible: " + selector);
+            page.waitForCondition(condition, new Page.WaitForConditionOptions().setTimeout(timeout));
         } catch (PlaywrightException e) {
-            logger.error("Element not visible within timeout: " + selector, e);
+            timedOut = true;
+            logger.error("Condition {}.{} not met within {}ms", pageName, name, timeout, e);
             throw e;
+        } finally {
+            record(pageName, name, timeout, start, timedOut);
         }
     }
     
+    /**
+     * Wait for an element to be visible
+     * @param page Playwright page instance
+     * @param selector CSS selector of element
+     */
+    public static void waitForElementVisible(Page page, String selector) {
+        waitForVisible(page.locator(selector).first(), DEFAULT_PAGE, selector);
+    }
+    
     /**
      * Wait for an element to be hidden
      * @param page Playwright page instance
      * @param selector CSS selector of element
      */
     public static void waitForElementHidden(Page page, String selector) {
-        logger.info("Waiting for element to be hidden: " + selector);
-        try {
-            page.waitForSelector(selector + " >> nth=0 >> visible=false", 
-                    new Page.WaitForSelectorOptions().setTimeout(DEFAULT_TIMEOUT));
-            logger.debug("Element is hidden: " + selector);
-        } catch (PlaywrightException e) {
-            logger.error("Element did not hide within timeout: " + selector, e);
-            throw e;
-        }
+        waitForHidden(page.locator(selector).first(), DEFAULT_PAGE, selector);
     }
     
     /**
@@ -53,22 +103,31 @@ public class WaitHelper {
      * @param page Playwright page instance
      */
     public static void waitForNavigation(Page page) {
+        int timeout = getTimeout(DEFAULT_PAGE, NAVIGATION);
         logger.info("Waiting for page navigation to complete");
+        long start = System.nanoTime();
+        boolean timedOut = false;
         try {
-            page.waitForLoadState();
+            page.waitForLoadState(LoadState.LOAD, new Page.WaitForLoadStateOptions().setTimeout(timeout));
             logger.debug("Page navigation completed");
         } catch (PlaywrightException e) {
+            timedOut = true;
             logger.error("Navigation did not complete within timeout", e);
             throw e;
+        } finally {
+            record(DEFAULT_PAGE, NAVIGATION, timeout, start, timedOut);
         }
     }
     
     /**
      * Wait for specific number of milliseconds
      * @param milliseconds Time to wait
+     * @deprecated Fixed sleeps slow down passing tests and still fail slow ones;
+     * use {@link #waitForCondition} or a locator wait instead
      */
+    @Deprecated
     public static void waitForMilliseconds(long milliseconds) {
-        logger.debug("Waiting for " + milliseconds + " milliseconds");
+        logger.debug("Waiting for {} milliseconds", milliseconds);
         try {
             Thread.sleep(milliseconds);
         } catch (InterruptedException e) {
@@ -76,4 +135,83 @@ public class WaitHelper {
             Thread.currentThread().interrupt();
         }
     }
+    
+    /**
+     * Get timeout for a wait
+     * @param pageName Logical page name
+     * @param name Logical element or condition name
+     * @return Timeout in milliseconds
+     */
+    public static int getTimeout(String pageName, String name) {
+        return TIMEOUTS.computeIfAbsent(pageName + "." + name,
+                key -> ConfigReader.getInstance().getWaitTimeout(pageName, name));
+    }
+    
+    /**
+     * Log count, percentiles and timeouts of all waits so far, flagging waits that
+     * usually last close to their timeout
+     */
+    public static void logWaitStatistics() {
+        for (Map.Entry<String, WaitStats> entry : new TreeMap<>(STATS).entrySet()) {
+            WaitStats stats = entry.getValue();
+            Histogram histogram = stats.histogram.copy();
+            long p95 = histogram.getValueAtPercentile(95);
+            String line = String.format("Wait %s: count=%d, p50=%dms, p95=%dms, max=%dms, timeouts=%d, timeout=%dms",
+                    entry.getKey(), histogram.getTotalCount(), histogram.getValueAtPercentile(50), p95,
+                    histogram.getMaxValue(), stats.timeouts.get(), stats.timeoutMillis);
+            if (p95 >= stats.timeoutMillis * NEAR_TIMEOUT_RATIO) {
+                logger.warn("{} - close to timeout", line);
+            } else {
+                logger.info(line);
+            }
+        }
+    }
+    
+    /**
+     * Get wait duration histograms recorded so far
+     * @return Copy of the histogram in milliseconds per page and name
+     */
+    public static Map<String, Histogram> getWaitHistograms() {
+        Map<String, Histogram> histograms = new TreeMap<>();
+        STATS.forEach((key, stats) -> histograms.put(key, stats.histogram.copy()));
+        return histograms;
+    }
+    
+    private static void waitForState(Locator locator, WaitForSelectorState state, String pageName, String name) {
+        int timeout = getTimeout(pageName, name);
+        logger.debug("Waiting for {}.{} to be {}", pageName, name, state);
+        long start = System.nanoTime();
+        boolean timedOut = false;
+        try {
+            locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(timeout));
+        } catch (PlaywrightException e) {
+            timedOut = true;
+            logger.error("Element {}.{} not {} within {}ms", pageName, name, state, timeout, e);
+            throw e;
+        } finally {
+            record(pageName, name, timeout, start, timedOut);
+        }
+    }
+    
+    private static void record(String pageName, String name, int timeout, long startNanos, boolean timedOut) {
+        PhaseTimer.record("wait", startNanos);
+        WaitStats stats = STATS.computeIfAbsent(pageName + "." + name, key -> new WaitStats(timeout));
+        stats.histogram.recordValue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        if (timedOut) {
+            stats.timeouts.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Durations and timeouts of one wait
+     */
+    private static final class WaitStats {
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final AtomicLong timeouts = new AtomicLong();
+        private final int timeoutMillis;
+        
+        private WaitStats(int timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
 }
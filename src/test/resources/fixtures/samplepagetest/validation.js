@@ -0,0 +1,43 @@
+// Client-side validation of the sample contact form (local fixture).
+// Mirrors the live page: a field is validated on input and blur, all fields on submit.
+(function () {
+    var EMAIL_PATTERN = /^[^\s@]+@[^\s@]+\.[^\s@]+$/;
+    var form = document.getElementById('contact-form-g2599');
+    var fields = [
+        { input: document.getElementById('g2599-name'), error: document.getElementById('g2599-name-error-message'),
+          isValid: function (value) { return value.trim().length > 0; } },
+        { input: document.getElementById('g2599-email'), error: document.getElementById('g2599-email-error-message'),
+          isValid: function (value) { return EMAIL_PATTERN.test(value.trim()); } },
+        { input: document.getElementById('contact-form-comment-g2599-comment'),
+          error: document.getElementById('g2599-comment-error-message'),
+          isValid: function (value) { return value.trim().length > 0; } }
+    ];
+
+    function validate(field) {
+        var valid = field.isValid(field.input.value);
+        field.error.classList.toggle('is-visible', !valid);
+        field.input.setAttribute('aria-invalid', String(!valid));
+        return valid;
+    }
+
+    fields.forEach(function (field) {
+        field.input.addEventListener('input', function () {
+            if (field.input.value.length > 0) {
+                validate(field);
+            }
+        });
+        field.input.addEventListener('blur', function () {
+            validate(field);
+        });
+    });
+
+    form.addEventListener('submit', function (event) {
+        var valid = true;
+        fields.forEach(function (field) {
+            valid = validate(field) && valid;
+        });
+        if (!valid) {
+            event.preventDefault();
+        }
+    });
+})();